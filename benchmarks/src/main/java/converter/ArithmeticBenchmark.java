@@ -0,0 +1,73 @@
+package converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A chain of {@value #ROUNDS} rounds of {@code add}, {@code subtract}, {@code multiply} and {@code divide}, spelled
+ * out once at the end, or spelled out and parsed back after every operation. Both compute the same values: the
+ * intermediate results are spelled out at a precision that keeps every digit they have.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArithmeticBenchmark {
+    private static final int ROUNDS = 6;
+
+    @Param({"2", "10", "16", "36", "64"})
+    public int radix;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int digits;
+
+    @Param({"false", "true"})
+    public boolean fractional;
+
+    private AbstractNumber start;
+    private AbstractNumber augend;
+    private AbstractNumber subtrahend;
+    private AbstractNumber multiplicand;
+    /**More digits after the point than any intermediate result has.*/
+    private int exactDigits;
+
+    @Setup
+    public void setUp() {
+        start = new AbstractNumber(BenchmarkInputs.number(radix, digits, fractional, 42), radix);
+        augend = new AbstractNumber(BenchmarkInputs.number(radix, digits, fractional, 43), radix);
+        subtrahend = new AbstractNumber(BenchmarkInputs.number(radix, digits / 2 + 1, fractional, 44), radix);
+        multiplicand = new AbstractNumber(BenchmarkInputs.number(radix, digits, fractional, 45), radix);
+        // a division leaves `digits` of them, which an addition keeps and a multiplication extends by FRACTION_DIGITS
+        exactDigits = Math.max(digits, BenchmarkInputs.FRACTION_DIGITS) + BenchmarkInputs.FRACTION_DIGITS;
+        if (!chain().equals(chainThroughStrings()))
+            throw new IllegalStateException("Both chains should compute the same number");
+    }
+
+    @Benchmark
+    public String chain() {
+        AbstractNumber number = start;
+        for (int i = 0; i < ROUNDS; i++)
+            number = number.add(augend).subtract(subtrahend).multiply(multiplicand).divide(multiplicand, digits);
+        return number.hex();
+    }
+
+    @Benchmark
+    public String chainThroughStrings() {
+        AbstractNumber number = start;
+        for (int i = 0; i < ROUNDS; i++) {
+            number = reparse(number.add(augend));
+            number = reparse(number.subtract(subtrahend));
+            number = reparse(number.multiply(multiplicand));
+            number = reparse(number.divide(multiplicand, digits));
+        }
+        return number.hex();
+    }
+
+    /**Spell out {@code number} without rounding and parse it back.*/
+    private AbstractNumber reparse(AbstractNumber number) {
+        return new AbstractNumber(number.setPrecision(exactDigits).hex(), radix);
+    }
+}
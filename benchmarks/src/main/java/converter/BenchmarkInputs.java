@@ -0,0 +1,30 @@
+package converter;
+
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible random numbers for the benchmarks.
+ */
+final class BenchmarkInputs {
+    /**Digits after the {@link AbstractNumber#DECIMAL_SPLIT} of fractional inputs.*/
+    static final int FRACTION_DIGITS = 16;
+
+    private BenchmarkInputs() {
+    }
+
+    /**
+     * @param digits amount of digits before the {@link AbstractNumber#DECIMAL_SPLIT}; the first one is never zero.
+     * @param fractional append {@link #FRACTION_DIGITS} digits after a {@link AbstractNumber#DECIMAL_SPLIT}.
+     */
+    static String number(int radix, int digits, boolean fractional, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder builder = new StringBuilder(digits + FRACTION_DIGITS + 1);
+        builder.append((char) DigitCodec.SYMBOLS[1 + random.nextInt(radix - 1)]);
+        for (int i = 1; i < digits; i++) builder.append((char) DigitCodec.SYMBOLS[random.nextInt(radix)]);
+        if (fractional) {
+            builder.append(AbstractNumber.DECIMAL_SPLIT);
+            for (int i = 0; i < FRACTION_DIGITS; i++) builder.append((char) DigitCodec.SYMBOLS[random.nextInt(radix)]);
+        }
+        return builder.toString();
+    }
+}
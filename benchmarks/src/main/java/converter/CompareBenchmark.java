@@ -0,0 +1,54 @@
+package converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code compareTo} between two numbers that only differ in their last digit, parsed on every call or once up front.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompareBenchmark {
+    @Param({"2", "10", "16", "36", "64"})
+    public int radix;
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    public int digits;
+
+    @Param({"false", "true"})
+    public boolean fractional;
+
+    private String left;
+    private String right;
+    private AbstractNumber parsedLeft;
+    private AbstractNumber parsedRight;
+
+    @Setup
+    public void setUp() {
+        left = BenchmarkInputs.number(radix, digits, fractional, 42);
+        char last = left.charAt(left.length() - 1);
+        right = left.substring(0, left.length() - 1) + (last == '0' ? '1' : '0');
+        parsedLeft = new AbstractNumber(left, radix);
+        parsedRight = new AbstractNumber(right, radix);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return new AbstractNumber(left, radix).compareTo(new AbstractNumber(right, radix));
+    }
+
+    @Benchmark
+    public int compareParsed() {
+        return parsedLeft.compareTo(parsedRight);
+    }
+
+    @Benchmark
+    public boolean equalsParsed() {
+        return parsedLeft.equals(parsedRight);
+    }
+}
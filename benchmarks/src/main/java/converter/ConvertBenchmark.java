@@ -0,0 +1,61 @@
+package converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code newRadix(int).hex()} between every pair of radices, from a freshly parsed number, and the same conversion
+ * through {@link Converter} from {@link String} to {@link String} and from ASCII bytes to ASCII bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConvertBenchmark {
+    @Param({"2", "10", "16", "36", "64"})
+    public int sourceRadix;
+
+    @Param({"2", "10", "16", "36", "64"})
+    public int targetRadix;
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    public int digits;
+
+    @Param({"false", "true"})
+    public boolean fractional;
+
+    private String input;
+    private Converter converter;
+    private ByteBuffer ascii;
+    private ByteBuffer output;
+
+    @Setup
+    public void setUp() {
+        input = BenchmarkInputs.number(sourceRadix, digits, fractional, 42);
+        converter = Converter.of(sourceRadix, targetRadix, 5);
+        ascii = ByteBuffer.wrap(input.getBytes(StandardCharsets.ISO_8859_1));
+        output = ByteBuffer.allocate(converter.convert(input).length());
+    }
+
+    @Benchmark
+    public String newRadix() {
+        return new AbstractNumber(input, sourceRadix).newRadix(targetRadix).hex();
+    }
+
+    @Benchmark
+    public String convert() {
+        return converter.convert(input);
+    }
+
+    @Benchmark
+    public int convertBytes() {
+        ascii.rewind();
+        output.clear();
+        return converter.convert(ascii, output);
+    }
+}
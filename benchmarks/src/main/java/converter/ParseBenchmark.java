@@ -0,0 +1,47 @@
+package converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Work done on a freshly parsed number: nothing is memoized between invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+    @Param({"2", "10", "16", "36", "64"})
+    public int radix;
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    public int digits;
+
+    @Param({"false", "true"})
+    public boolean fractional;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = BenchmarkInputs.number(radix, digits, fractional, 42);
+    }
+
+    @Benchmark
+    public AbstractNumber construct() {
+        return new AbstractNumber(input, radix);
+    }
+
+    @Benchmark
+    public String toBinaryString() {
+        return new AbstractNumber(input, radix).toBinaryString();
+    }
+
+    @Benchmark
+    public String setPrecision() {
+        return new AbstractNumber(input, radix).setPrecision(BenchmarkInputs.FRACTION_DIGITS / 2).hex();
+    }
+}
@@ -0,0 +1,59 @@
+package converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RadixOutputStream} and {@link RadixInputStream} over 1 MiB of random bytes: as every operation moves one MiB,
+ * the score is the throughput in MiB/s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamCodecBenchmark {
+    private static final int PAYLOAD = 1 << 20;
+
+    @Param({"2", "4", "8", "16", "32", "64"})
+    public int radix;
+
+    private byte[] data;
+    private byte[] text;
+    private final byte[] buffer = new byte[1 << 16];
+
+    @Setup
+    public void setUp() throws IOException {
+        data = new byte[PAYLOAD];
+        new SplittableRandom(42).nextBytes(data);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (OutputStream out = new RadixOutputStream(encoded, radix)) {
+            out.write(data);
+        }
+        text = encoded.toByteArray();
+    }
+
+    @Benchmark
+    public void encode() throws IOException {
+        try (OutputStream out = new RadixOutputStream(OutputStream.nullOutputStream(), radix)) {
+            out.write(data);
+        }
+    }
+
+    @Benchmark
+    public long decode() throws IOException {
+        long sum = 0;
+        try (InputStream in = new RadixInputStream(new ByteArrayInputStream(text), radix)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) sum += read;
+        }
+        return sum;
+    }
+}
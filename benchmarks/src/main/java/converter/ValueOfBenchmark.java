@@ -0,0 +1,32 @@
+package converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code valueOf(long)} and the conversions of the resulting compact numbers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueOfBenchmark {
+    @Param({"7", "1000000007", "9223372036854775807"})
+    public long value;
+
+    @Param({"2", "10", "16", "36", "64"})
+    public int targetRadix;
+
+    @Benchmark
+    public AbstractNumber valueOf() {
+        return AbstractNumber.valueOf(value);
+    }
+
+    @Benchmark
+    public String newRadix() {
+        return AbstractNumber.valueOf(value).newRadix(targetRadix).hex();
+    }
+}
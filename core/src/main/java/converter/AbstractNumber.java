@@ -0,0 +1,1121 @@
+package converter;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.math.*;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+@SuppressWarnings("unused")
+final class AbstractNumber implements Comparable<AbstractNumber> {
+    static {
+        ZERO = AbstractNumber.valueOf(0L);
+        ONE = AbstractNumber.valueOf(1L);
+        TWO = AbstractNumber.valueOf(2L);
+        TEN = AbstractNumber.valueOf(10L);
+    }
+
+    /**
+     * The Instance {@code enum} links ASCII characters with their corresponding Integer value
+     * in accordance to this rule:
+     * <ul>
+     *     <li><b>0-9</b> as Integers</li>
+     *     <li><b>10-35</b> as A-Z</li>
+     *     <li><b>36-61</b> as a-z</li>
+     *     <li><b>62</b> as +</li>
+     *     <li><b>63</b> as /</li>
+     * </ul>
+     * @see <a href="https://en.wikipedia.org/wiki/Base64">This Link</a> for information on Base64
+     */
+    enum Instance {
+        _0('0', 0),
+        _1('1', 1),
+        _2('2', 2),
+        _3('3', 3),
+        _4('4', 4),
+        _5('5', 5),
+        _6('6', 6),
+        _7('7', 7),
+        _8('8', 8),
+        _9('9', 9),
+        _A('A', 10),
+        _B('B', 11),
+        _C('C', 12),
+        _D('D', 13),
+        _E('E', 14),
+        _F('F', 15),
+        _G('G', 16),
+        _H('H', 17),
+        _I('I', 18),
+        _J('J', 19),
+        _K('K', 20),
+        _L('L', 21),
+        _M('M', 22),
+        _N('N', 23),
+        _O('O', 24),
+        _P('P', 25),
+        _Q('Q', 26),
+        _R('R', 27),
+        _S('S', 28),
+        _T('T', 29),
+        _U('U', 30),
+        _V('V', 31),
+        _W('W', 32),
+        _X('X', 33),
+        _Y('Y', 34),
+        _Z('Z', 35),
+        _a('a', 36),
+        _b('b', 37),
+        _c('c', 38),
+        _d('d', 39),
+        _e('e', 40),
+        _f('f', 41),
+        _g('g', 42),
+        _h('h', 43),
+        _i('i', 44),
+        _j('j', 45),
+        _k('k', 46),
+        _l('l', 47),
+        _m('m', 48),
+        _n('n', 49),
+        _o('o', 50),
+        _p('p', 51),
+        _q('q', 52),
+        _r('r', 53),
+        _s('s', 54),
+        _t('t', 55),
+        _u('u', 56),
+        _v('v', 57),
+        _w('w', 58),
+        _x('x', 59),
+        _y('y', 60),
+        _z('z', 61),
+        ___('+', 62),
+        __('\\', 63);
+
+        final int value;
+        final char symbol;
+        Instance(char symbol, int value) {
+            this.symbol = symbol;
+            this.value = value;
+        }
+    }
+    static final char DECIMAL_SPLIT = '.'; // per U.S. standards; update as you wish
+    private static final char THOUSAND_SPLIT = ','; // per U.S. standards; update as you wish
+    private static final int MAX_RADIX = 64; // DO NOT MODIFY THIS LINE
+    private static final int DEFAULT_DECIMAL_LENGTH = 5; // this is the value requested by HyperSkill
+
+    public static final AbstractNumber ZERO;
+    public static final AbstractNumber ONE;
+    public static final AbstractNumber TWO;
+    public static final AbstractNumber TEN;
+
+    /*
+     * HEX, BINARY and DECIMAL are computed on first use and then kept (see hexDigits(), binary() and decimal()), and
+     * so is SPELLED (see spelled()).
+     * Each is immutable and derived deterministically, so concurrent readers can at worst compute one twice.
+     * At least one of HEX (or PACKED), SOURCE, SCALED and DECIMAL is always set for instances that are not compact.
+     */
+    private volatile String HEX;
+    private volatile String BINARY;
+    private volatile BigDecimal DECIMAL;
+    private final int RADIX;
+
+    /**
+     * Digits longer than {@link #PACK_THRESHOLD} are kept in {@link #PACKED} rather than {@link #HEX}, and the
+     * forms derived from them are only kept softly, so that the garbage collector may drop them under pressure.
+     */
+    private volatile PackedDigits PACKED;
+    private volatile SoftReference<String> SOFT_BINARY;
+    private volatile SoftReference<BigDecimal> SOFT_DECIMAL;
+
+    /**
+     * {@link #hex()} of an exact instance: {@link #HEX} only holds its digits as they were given, while {@code hex()}
+     * rounds them to {@link #DECIMAL_LENGTH}. Held softly beyond {@link #PACK_THRESHOLD}, like {@link #SOFT_BINARY}.
+     */
+    private volatile String SPELLED;
+    private volatile SoftReference<String> SOFT_SPELLED;
+
+    /**
+     * Instances converted from the exact digits of another one only spell out {@link #HEX} from {@link #SOURCE} when
+     * it is first needed (see {@link #hexDigits()}); {@link #SOURCE_FRACTION} is the fraction already converted.
+     */
+    private volatile AbstractNumber SOURCE;
+    private FractionEngine.Rounded SOURCE_FRACTION;
+
+    /**
+     * The results of arithmetic (see {@link #add(AbstractNumber)}) keep their exact value in {@link #SCALED}, and only
+     * spell out {@link #HEX} from it when it is first needed; other exact instances cache theirs there on their first
+     * operation (unless {@link #PACKED}).
+     */
+    private volatile Scaled SCALED;
+
+    /**
+     * The numerical value without trailing zeroes (see {@link #canonical()}), computed once for comparisons, equality
+     * and hashing; held softly alongside {@link #PACKED}. {@link #hash} caches {@link #hashCode()} like
+     * {@link String} does.
+     */
+    private volatile BigDecimal CANONICAL;
+    private volatile SoftReference<BigDecimal> SOFT_CANONICAL;
+    private int hash;
+    private boolean hashIsZero;
+
+    /**Digits from which {@link #PACKED} is used, see {@code -Dconverter.packThreshold}*/
+    static final int PACK_THRESHOLD = Integer.getInteger("converter.packThreshold", 1 << 12);
+    /**Store {@link #PACKED} off-heap, see {@code -Dconverter.packDirect}*/
+    static final boolean PACK_DIRECT = Boolean.getBoolean("converter.packDirect");
+
+    /**
+     * Integers that fit in a {@code long} are kept in {@link #SMALL} and converted with primitive arithmetic;
+     * {@link #HEX}, {@link #BINARY} and {@link #DECIMAL} are never set for these instances.
+     */
+    private final boolean compact;
+    private final long SMALL;
+
+    private int DECIMAL_LENGTH = DEFAULT_DECIMAL_LENGTH; // can be updated with `setPrecision(int)`
+
+    private boolean negative = false;
+    private boolean isInteger;
+    private boolean exactHex = false; // does {@link #HEX} spell out {@link #DECIMAL} without any rounding?
+
+    /**
+     * Most useful constructor to initialize an {@link AbstractNumber}.
+     * @param hex valid {@link String} to serve as a number.
+     * @param radix the <i>base</i> to which this number is defined (incl. Base 2 - 64).
+     * @throws IllegalArgumentException a digit in the <code>hex</code> is greater than or equal to the <code>radix</code> bound;
+     *                                  there is an invalid digit (not found under {@link Instance});
+     *                                  <code>radix</code> > {@link #MAX_RADIX}
+     */
+    public AbstractNumber(String hex, int radix) throws IllegalArgumentException {
+        this((CharSequence) hex, radix);
+    }
+
+    /**
+     * Read a number straight from ASCII bytes, from the position of {@code ascii} to its limit, without decoding them
+     * into a {@link String} first. The position of {@code ascii} is then moved to its limit.
+     * @throws IllegalArgumentException See {@link #AbstractNumber(String, int)}
+     */
+    public AbstractNumber(ByteBuffer ascii, int radix) throws IllegalArgumentException {
+        this(DigitCodec.ascii(ascii), radix);
+        ascii.position(ascii.limit());
+    }
+
+    /**
+     * Read a number straight from the ASCII bytes of {@code ascii[offset, offset + length)}.
+     * @throws IllegalArgumentException See {@link #AbstractNumber(String, int)}
+     */
+    public AbstractNumber(byte[] ascii, int offset, int length, int radix) throws IllegalArgumentException {
+        this(DigitCodec.ascii(ByteBuffer.wrap(ascii, offset, length)), radix);
+    }
+
+    private AbstractNumber(CharSequence hex, int radix) throws IllegalArgumentException {
+        DigitCodec.Digits digits;
+        try {
+            digits = DigitCodec.decode(hex, radix);
+        } catch (RuntimeException exception) {
+            ConversionMetrics.error(exception);
+            throw exception;
+        }
+
+        this.RADIX = radix;
+        this.negative = digits.negative;
+        this.isInteger = !digits.separated;
+        this.compact = this.isInteger && digits.values.length <= RadixEngine.longDigits(radix);
+
+        if (this.compact) {
+            long small = 0;
+            for (byte value : digits.values) small = small * radix + value;
+
+            this.SMALL = negative ? -small : small;
+        } else {
+            this.SMALL = 0;
+            if (digits.values.length > PACK_THRESHOLD) this.PACKED = PackedDigits.pack(digits, false, PACK_DIRECT);
+            else this.HEX = digits.toString();
+            this.exactHex = true;
+        }
+    }
+
+    /**
+     * Constructor to initialize an {@link AbstractNumber} using a {@link BigDecimal}. (Defaults to Base 10)
+     * @param decimal any valid {@link BigDecimal}
+     * @throws IllegalArgumentException See {@link #AbstractNumber(String, int)}
+     */
+    public AbstractNumber(BigDecimal decimal) throws IllegalArgumentException {
+        this(decimal, 10);
+    }
+
+    /**Used internally for conversions*/
+    private AbstractNumber(BigDecimal decimal, int radix) {
+        DigitCodec.requireValidRadix(radix);
+
+        this.isInteger = decimal.compareTo(decimal.subtract(decimal.setScale(0, RoundingMode.CEILING))) == 0;
+
+        this.compact = false;
+        this.SMALL = 0;
+        this.DECIMAL = decimal;
+        this.RADIX = radix;
+        this.negative = decimal.compareTo(BigDecimal.ZERO) < 0;
+        this.exactHex = decimal.remainder(BigDecimal.ONE).signum() == 0;
+    }
+
+    private AbstractNumber(BigDecimal decimal, int radix, boolean b, int precision) {
+        this(decimal, radix);
+        this.isInteger = b;
+        this.DECIMAL_LENGTH = precision;
+    }
+
+    /**Used internally for the results of arithmetic, see {@link #SCALED}*/
+    private AbstractNumber(Scaled scaled, int radix, int precision) {
+        this.RADIX = radix;
+        this.compact = false;
+        this.SMALL = 0;
+        this.DECIMAL_LENGTH = precision;
+        this.SCALED = scaled;
+        this.negative = scaled.unscaled.signum() < 0;
+        this.isInteger = scaled.scale == 0;
+        this.exactHex = true;
+    }
+
+    /**
+     * Used internally to copy an instance with an exact {@link #HEX}, either keeping its digits while setting a new
+     * precision, or converting them straight into another radix (see {@link #hexFromDigits(int)}).
+     */
+    private AbstractNumber(AbstractNumber source, int radix, int precision) {
+        this.RADIX = radix;
+        this.compact = false;
+        this.SMALL = 0;
+        this.DECIMAL_LENGTH = precision;
+        this.isInteger = source.isInteger;
+        this.negative = source.negative;
+        if (radix == source.RADIX) {
+            if (source.PACKED != null) this.PACKED = source.PACKED;
+            else if (source.HEX == null && source.SCALED != null) this.SCALED = source.SCALED;
+            else this.HEX = source.hexDigits();
+            this.exactHex = true;
+        } else {
+            DigitCodec.Digits digits = source.digits();
+            FractionEngine.Rounded fraction = FractionEngine.round(digits.values, digits.point, digits.values.length,
+                    source.RADIX, radix, precision);
+            this.SOURCE = source;
+            this.SOURCE_FRACTION = fraction;
+            this.exactHex = fraction.exact;
+        }
+        // a rounded HEX can no longer serve as the source of the numerical value
+        this.DECIMAL = this.exactHex ? source.DECIMAL : source.decimal();
+        if (this.exactHex && source.PACKED != null) this.SOFT_DECIMAL = source.SOFT_DECIMAL;
+    }
+
+    /**
+     * Constructor to initialize an {@link AbstractNumber} using a {@code long} value. (Defaults to Base 10)
+     * @param decimal any valid {@code long} number.
+     * @throws IllegalArgumentException See {@link #AbstractNumber(String, int)}
+     * @deprecated - use {@link AbstractNumber#valueOf(long)} instead.
+     */
+    public AbstractNumber(long decimal) {
+        this(decimal, 10, DEFAULT_DECIMAL_LENGTH, decimal < 0);
+    }
+
+    /**Used internally for {@link #compact} instances*/
+    private AbstractNumber(long value, int radix, int precision, boolean negative) {
+        DigitCodec.requireValidRadix(radix);
+
+        this.compact = true;
+        this.SMALL = value;
+        this.RADIX = radix;
+        this.DECIMAL_LENGTH = precision;
+        this.negative = negative;
+        this.isInteger = true;
+    }
+
+    /**
+     * Returns a {@code new} {@link AbstractNumber} obtained from a {@code long} value.
+     * @param l any valid {@code long} number.
+     * @return the proper {@link AbstractNumber} (in Base 10)
+     */
+    public static AbstractNumber valueOf(long l) {
+        return new AbstractNumber(l, 10, DEFAULT_DECIMAL_LENGTH, l < 0);
+    }
+
+    /**
+     * Follows the format of an implementation of {@link Comparable}.
+     * @param bounds user supplied parameters ({@code int...}) used to check for a valid radix.
+     * @return No invalid bounds = 0; bound over {@link #MAX_RADIX} = 1; bound under 2 = -1.
+     */
+    public static int areInvalidBounds(int... bounds) {
+        Integer def = getInvalidBound(bounds);
+        return def == null ? 0 : def > MAX_RADIX ? 1 : -1;
+    }
+
+    /**
+     * Get an invalid bound from multiple bounds.
+     * @param bounds user supplied parameters ({@code int...} to be analyzed)
+     * @return {@code null} if the input is sufficient; the invalid bound as an {@link Integer}
+     */
+    public static Integer getInvalidBound(int... bounds) {
+        for (int i : bounds) {
+            if (i > MAX_RADIX || i < 2) return i;
+        }
+        return null;
+    }
+
+    public static char getInvalidHexInRadix(String hex, int radix) throws IllegalStateException {
+        for (int i = 0; i < hex.length(); i++) {
+            char c = DigitCodec.fold(hex.charAt(i), radix);
+            if (c == DECIMAL_SPLIT || Character.isWhitespace(c)) continue;
+
+            int value = DigitCodec.value(c);
+            if (value < 0) throw new IllegalStateException(String.format("'%c' is not a valid Base64 Character!", c));
+            if (value >= radix) return c;
+        }
+        return (char) 0;
+    }
+
+    public static boolean hexOutsideRadix(String hex, int radix) {
+        return (getInvalidHexInRadix(hex, radix) != (char) 0);
+    }
+
+    /**
+     * Build an {@link AbstractNumber} from a pre-existing instance, keeping the numeric value, but
+     * setting a different radix.
+     * @param radix new radix to be set
+     * @return a new {@link AbstractNumber} with a different radix field.
+     */
+    public AbstractNumber newRadix(int radix) {
+        if (this.compact)
+            return new AbstractNumber(this.SMALL, radix, this.DECIMAL_LENGTH, this.negative);
+        if (this.exactHex && areInvalidBounds(radix) == 0)
+            return new AbstractNumber(this, radix, this.DECIMAL_LENGTH);
+        return new AbstractNumber(this.toNumber(), radix, this.isInteger, this.DECIMAL_LENGTH);
+    }
+
+    /**Quick conversion to Base 2*/
+    public String toBinaryString() {
+        return binary();
+    }
+
+    /**Quick conversion to Base 16*/
+    public String toHexadecimalString() {
+        return hex(16);
+    }
+
+    /**Calculate this instance's {@link #HEX} value*/
+    public String hex() {
+        if (this.compact) return hex(this.RADIX);
+        return this.exactHex ? spelled() : hexDigits();
+    }
+
+    private String hex(int radix) {
+        if (this.compact) {
+            return this.SMALL == 0 ? "0." + fillWithZeroes("", this.DECIMAL_LENGTH) : RadixEngine.format(this.SMALL, radix);
+        }
+        if (this.exactHex) return hexFromDigits(radix);
+        return hexFromDecimal(radix);
+    }
+
+    /**
+     * Convert {@link #DECIMAL}: the integer part is handled by {@link RadixEngine#format(BigInteger, int)}, the
+     * fraction (an unscaled value over a power of ten) by {@link FractionEngine#round(BigInteger, BigInteger, int, int)}.
+     */
+    private String hexFromDecimal(int radix) {
+        BigDecimal number = decimal();
+        if (number.signum() == 0) return "0." + fillWithZeroes("", this.DECIMAL_LENGTH);
+
+        BigDecimal magnitude = number.abs();
+        BigInteger integer = magnitude.toBigInteger();
+        BigDecimal decimal = magnitude.subtract(new BigDecimal(integer));
+
+        FractionEngine.Rounded fraction = decimal.signum() == 0
+                ? FractionEngine.zero(this.DECIMAL_LENGTH)
+                : FractionEngine.round(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()), radix,
+                        this.DECIMAL_LENGTH);
+        if (fraction.carry) integer = integer.add(BigInteger.ONE);
+
+        return Converter.spell(RadixEngine.format(integer, radix), fraction, this.negative, this.isInteger);
+    }
+
+    /**Exact alternative to {@link #hexFromDecimal(int)}, working on the digits of {@link #HEX} only.*/
+    private String hexFromDigits(int radix) {
+        DigitCodec.Digits digits = digits();
+        FractionEngine.Rounded fraction = FractionEngine.round(digits.values, digits.point, digits.values.length,
+                this.RADIX, radix, this.DECIMAL_LENGTH);
+        return Converter.spell(digits, this.RADIX, radix, fraction, this.negative, this.isInteger);
+    }
+
+    /**
+     * The symbols of {@link #hex()}, computed lazily from the most significant one on: a caller that only needs the
+     * first few of them does not pay for the rest.
+     */
+    public PrimitiveIterator.OfInt hexIterator() {
+        return stream();
+    }
+
+    /**@see #hexIterator()*/
+    public Spliterator.OfInt hexSpliterator() {
+        return Spliterators.spliteratorUnknownSize(stream(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Append {@link #hex()} to {@code out} piece by piece, as the digits are computed, without ever holding all of it.
+     * @throws IOException {@code out} failed.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        DigitStream stream = stream();
+        byte[] scratch = new byte[DigitStream.CHUNK]; // chunks may be read-only, so never rely on their array
+        for (ByteBuffer chunk = stream.nextChunk(); chunk != null; chunk = stream.nextChunk()) {
+            while (chunk.hasRemaining()) {
+                int length = Math.min(scratch.length, chunk.remaining());
+                chunk.get(scratch, 0, length);
+                out.append(new String(scratch, 0, length, StandardCharsets.ISO_8859_1));
+            }
+        }
+    }
+
+    /**
+     * Write the ASCII symbols of {@link #hex()} to {@code channel} piece by piece, as the digits are computed.
+     * @return the amount of bytes written
+     * @throws IOException {@code channel} failed.
+     */
+    public long writeTo(WritableByteChannel channel) throws IOException {
+        long written = 0;
+        DigitStream stream = stream();
+        for (ByteBuffer chunk = stream.nextChunk(); chunk != null; chunk = stream.nextChunk()) {
+            while (chunk.hasRemaining()) written += channel.write(chunk);
+        }
+        return written;
+    }
+
+    /**
+     * Write the ASCII symbols of {@link #hex()} into {@code out} from its position on, without building a
+     * {@link String}; {@code newRadix(radix).writeTo(out)} converts straight into {@code out}.
+     * @return the amount of bytes written
+     * @throws BufferOverflowException {@code out} has too little room left; its position is left as it was.
+     */
+    public int writeTo(ByteBuffer out) throws BufferOverflowException {
+        if (this.compact && this.SMALL != 0) return RadixEngine.format(this.SMALL, this.RADIX, out);
+        return stream().writeTo(out);
+    }
+
+    /**Lazy counterpart of {@link #hex()}: the integer part is only formatted as it is consumed.*/
+    private DigitStream stream() {
+        DigitStream stream = new DigitStream();
+        if (this.compact) return stream.symbols(hex(this.RADIX));
+        String spelled = this.SPELLED;
+        if (spelled != null) return stream.symbols(spelled);
+
+        AbstractNumber source = this.SOURCE;
+        if (source != null) return stream(source.digits(), source.RADIX, this.SOURCE_FRACTION, stream);
+
+        if (!this.exactHex) {
+            String hex = this.HEX;
+            if (hex != null) return stream.symbols(hex);
+            PackedDigits packed = this.PACKED;
+            if (packed == null) return streamFromDecimal(stream);
+
+            DigitCodec.Digits digits = packed.unpack();
+            if (digits.values.length == 0) return stream.symbol('0');
+            if (digits.negative) stream.symbol('-');
+            stream.digits(digits.values, 0, digits.point);
+            if (digits.separated) stream.symbol(DECIMAL_SPLIT).digits(digits.values, digits.point,
+                    digits.values.length);
+            return stream;
+        }
+
+        DigitCodec.Digits digits = digits();
+        return stream(digits, this.RADIX, FractionEngine.round(digits.values, digits.point, digits.values.length,
+                this.RADIX, this.RADIX, this.DECIMAL_LENGTH), stream);
+    }
+
+    private DigitStream stream(DigitCodec.Digits digits, int sourceRadix, FractionEngine.Rounded fraction,
+                               DigitStream stream) {
+        return Converter.stream(digits, sourceRadix, this.RADIX, fraction, this.negative, this.isInteger, stream);
+    }
+
+    /**Lazy counterpart of {@link #hexFromDecimal(int)}.*/
+    private DigitStream streamFromDecimal(DigitStream stream) {
+        BigDecimal number = decimal();
+        if (number.signum() == 0) return stream.symbol('0').fraction(FractionEngine.zero(this.DECIMAL_LENGTH));
+
+        BigDecimal magnitude = number.abs();
+        BigInteger integer = magnitude.toBigInteger();
+        BigDecimal decimal = magnitude.subtract(new BigDecimal(integer));
+
+        FractionEngine.Rounded fraction = decimal.signum() == 0
+                ? FractionEngine.zero(this.DECIMAL_LENGTH)
+                : FractionEngine.round(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()), this.RADIX,
+                        this.DECIMAL_LENGTH);
+        if (fraction.carry) integer = integer.add(BigInteger.ONE);
+
+        if (this.negative) stream.symbol('-');
+        stream.integer(integer, this.RADIX);
+        return fraction.isZero() && this.isInteger ? stream : stream.fraction(fraction);
+    }
+
+    /**
+     * Get the {@link BigDecimal} value associated with this instance.
+     * @return {@link #DECIMAL decimal}
+     */
+    public BigDecimal toNumber() {
+        return decimal();
+    }
+
+    /**Numerical value of digits already validated by {@link DigitCodec#decode(CharSequence, int)}*/
+    private BigDecimal toNumber(DigitCodec.Digits digits) {
+        return toNumber(digits, digits.values.length);
+    }
+
+    /**Numerical value of {@code digits.values[0, to)}*/
+    private BigDecimal toNumber(DigitCodec.Digits digits, int to) {
+        BigDecimal value = new BigDecimal(RadixEngine.parse(digits.values, 0, digits.point, this.RADIX))
+                .add(FractionEngine.toDecimal(digits.values, digits.point, to, this.RADIX));
+        return this.negative ? value.negate() : value;
+    }
+
+    /**Numerical value of {@code scaled}, exactly like {@link #toNumber(DigitCodec.Digits)} of its digits*/
+    private BigDecimal toNumber(Scaled scaled) {
+        BigInteger magnitude = scaled.unscaled.abs();
+        BigDecimal value;
+        if (scaled.scale == 0) {
+            value = new BigDecimal(magnitude);
+        } else {
+            BigInteger[] qr = magnitude.divideAndRemainder(Scaled.power(this.RADIX, scaled.scale));
+            value = new BigDecimal(qr[0]).add(FractionEngine.toDecimal(qr[1], scaled.scale, this.RADIX));
+        }
+        return scaled.unscaled.signum() < 0 ? value.negate() : value;
+    }
+
+    /**
+     * The numerical value, stripped of trailing zeroes so that equal numbers have equal canonical values whatever
+     * their radix or scale. Exact digits are evaluated without their trailing zeroes, so that in a radix which cannot
+     * be written exactly in Base 10, {@code 0.1} and {@code 0.10} round alike.
+     */
+    private BigDecimal canonical() {
+        BigDecimal canonical = this.CANONICAL;
+        if (canonical != null) return canonical;
+        SoftReference<BigDecimal> soft = this.SOFT_CANONICAL;
+        canonical = soft == null ? null : soft.get();
+        if (canonical != null) return canonical;
+
+        if (this.compact) {
+            canonical = BigDecimal.valueOf(this.SMALL);
+        } else if (this.exactHex && this.SCALED != null) {
+            canonical = toNumber(this.SCALED.stripTrailingZeros(this.RADIX));
+        } else if (this.exactHex) {
+            DigitCodec.Digits digits = digits();
+            int to = digits.values.length;
+            while (to > digits.point && digits.values[to - 1] == 0) to--;
+            canonical = toNumber(digits, to);
+        } else {
+            canonical = decimal();
+        }
+        canonical = canonical.stripTrailingZeros();
+
+        if (this.PACKED == null) this.CANONICAL = canonical;
+        else this.SOFT_CANONICAL = new SoftReference<>(canonical);
+        return canonical;
+    }
+
+
+    /**
+     * @return a fancy {@link String} formatted with commas and a Negative (-) indicator
+     */
+    public String formatNumber() {
+        if (this.compact) {
+            String digits = Long.toString(this.SMALL);
+            return (isNegative() ? "(- NEG) " : "") + withCommas(this.SMALL < 0 ? digits.substring(1) : digits);
+        }
+        BigDecimal magnitude = decimal().abs(); // the sign is spelled out by the indicator alone
+        BigInteger integer = magnitude.toBigInteger();
+        BigDecimal fraction = magnitude.subtract(new BigDecimal(integer));
+        return (isNegative() ? "(- NEG) " : "") +
+                withCommas(integer.toString()) +
+                (fraction.signum() == 0 ? "" : fraction.toPlainString().substring(1));
+    }
+
+    private BigDecimal decimal() {
+        if (this.compact) return BigDecimal.valueOf(this.SMALL);
+
+        BigDecimal decimal = this.DECIMAL;
+        if (decimal != null) return decimal;
+        Scaled scaled = this.exactHex ? this.SCALED : null;
+        if (this.PACKED == null) return this.DECIMAL = scaled != null ? toNumber(scaled) : toNumber(digits());
+
+        SoftReference<BigDecimal> soft = this.SOFT_DECIMAL;
+        decimal = soft == null ? null : soft.get();
+        if (decimal == null)
+            this.SOFT_DECIMAL = new SoftReference<>(decimal = scaled != null ? toNumber(scaled) : toNumber(digits()));
+        return decimal;
+    }
+
+    private String hexDigits() {
+        if (this.compact) return hex(this.RADIX);
+
+        PackedDigits packed = this.PACKED;
+        if (packed != null) return packed.toString();
+        String hex = this.HEX;
+        if (hex != null) return hex;
+
+        AbstractNumber source = this.SOURCE;
+        if (source != null) {
+            hex = Converter.spell(source.digits(), source.RADIX, this.RADIX, this.SOURCE_FRACTION, this.negative,
+                    this.isInteger);
+            storeHex(hex);
+            this.SOURCE = null;
+            return hex;
+        }
+        Scaled scaled = this.SCALED;
+        if (scaled != null && this.exactHex) {
+            storeHex(hex = scaled.spell(this.RADIX));
+            return hex;
+        }
+        // SOURCE is only dropped once HEX (or PACKED) is set
+        packed = this.PACKED;
+        if (packed != null) return packed.toString();
+        hex = this.HEX;
+        if (hex == null) storeHex(hex = hexFromDecimal(this.RADIX));
+        return hex;
+    }
+
+    /**@return the digits of {@link #HEX}, straight from {@link #PACKED} if there is no {@link String} to decode*/
+    private DigitCodec.Digits digits() {
+        PackedDigits packed = this.PACKED;
+        return packed != null ? packed.unpack() : DigitCodec.decode(hexDigits(), this.RADIX);
+    }
+
+    /**Keep {@code hex} as {@link #HEX}, or packed if it is long enough.*/
+    private void storeHex(String hex) {
+        if (hex.length() > PACK_THRESHOLD) this.PACKED = PackedDigits.pack(DigitCodec.decode(hex, this.RADIX), true,
+                PACK_DIRECT);
+        else this.HEX = hex;
+    }
+
+    private String spelled() {
+        String spelled = this.SPELLED;
+        if (spelled != null) return spelled;
+        SoftReference<String> soft = this.SOFT_SPELLED;
+        spelled = soft == null ? null : soft.get();
+        if (spelled != null) return spelled;
+
+        spelled = hexFromDigits(this.RADIX);
+        if (spelled.length() > PACK_THRESHOLD) this.SOFT_SPELLED = new SoftReference<>(spelled);
+        else this.SPELLED = spelled;
+        return spelled;
+    }
+
+    private String binary() {
+        if (this.compact) return hex(2);
+
+        String binary = this.BINARY;
+        if (binary != null) return binary;
+        SoftReference<String> soft = this.SOFT_BINARY;
+        binary = soft == null ? null : soft.get();
+        if (binary != null) return binary;
+
+        binary = hex(2);
+        if (binary.length() > PACK_THRESHOLD) this.SOFT_BINARY = new SoftReference<>(binary);
+        else this.BINARY = binary;
+        return binary;
+    }
+
+    private String withCommas(String number) {
+        StringBuilder res = new StringBuilder();
+        for (int i = 0; i < number.toString().length(); i++) {
+            if (i % 3 == 0 && i > 0) res.append(THOUSAND_SPLIT);
+            res.append(number.toString().charAt(number.toString().length() - 1 - i));
+        }
+        return res.reverse().toString();
+    }
+
+    @SuppressWarnings("SameParameterValue")
+    private String repeatCharacters(String charSequence, int reps) {
+        return String.valueOf(charSequence).repeat(Math.max(0, reps));
+    }
+
+    private String fillWithZeroes(String str, int newLength) {
+        String s = str;
+        for (int i = str.length(); i < newLength; i++) s = s.concat("0");
+        return s;
+    }
+
+    /**@return The inverse of {@link #DECIMAL decimal} (-{@link #DECIMAL decimal})*/
+    public AbstractNumber negate() {
+        if (this.compact && this.SMALL != Long.MIN_VALUE)
+            return new AbstractNumber(-this.SMALL, this.RADIX, this.DECIMAL_LENGTH, -this.SMALL < 0);
+        Scaled scaled = scaled();
+        if (scaled != null) return result(scaled.unscaled.negate(), scaled.scale);
+        return result(toNumber().negate());
+    }
+
+    /**
+     * Get the status of this number; is it negative?
+     * @return {@link #negative}
+     */
+    public boolean isNegative() {
+        return negative;
+    }
+
+    /**
+     * Creates a new instance of {@link AbstractNumber}, keeping all other fields, but allowing for
+     * greater precision after the decimal point.
+     * @param newDecimalLength The amount of digits (precision) to be built into the new instance.
+     * @return An updates {@link AbstractNumber}
+     * @throws IllegalArgumentException {@code newDecimalLength} is negative or above
+     *         {@link FractionEngine#MAX_PRECISION}.
+     */
+    public AbstractNumber setPrecision(int newDecimalLength) throws IllegalArgumentException {
+        FractionEngine.requireValidPrecision(newDecimalLength);
+        if (this.compact) return new AbstractNumber(this.SMALL, this.RADIX, newDecimalLength, this.negative);
+        if (this.exactHex) return new AbstractNumber(this, this.RADIX, newDecimalLength);
+        return new AbstractNumber(this.toNumber(), this.RADIX, this.isInteger, newDecimalLength);
+    }
+
+    /*
+     * Arithmetic works on the exact magnitude (SMALL, or SCALED: an integer over a power of the radix) and hands
+     * back numbers in the radix and precision of this instance whose digits are only spelled out once a
+     * representation is requested, so that a chain of operations never formats its intermediate results.
+     * Operands whose digits cannot be taken as they are (an operand with a fraction in another radix, or an instance
+     * only holding a rounded value) fall back on BigDecimal arithmetic.
+     */
+
+    /**@return {@code this + augend}, exact*/
+    public AbstractNumber add(AbstractNumber augend) {
+        if (this.compact && augend.compact) {
+            try {
+                return small(Math.addExact(this.SMALL, augend.SMALL));
+            } catch (ArithmeticException overflow) {
+                // not a long any longer
+            }
+        }
+        Scaled a = scaled();
+        Scaled b = augend.scaledIn(this.RADIX);
+        if (a == null || b == null) return result(decimal().add(augend.decimal()));
+
+        int scale = Math.max(a.scale, b.scale);
+        return result(a.rescale(scale, this.RADIX).unscaled.add(b.rescale(scale, this.RADIX).unscaled), scale);
+    }
+
+    /**@return {@code this - subtrahend}, exact*/
+    public AbstractNumber subtract(AbstractNumber subtrahend) {
+        if (this.compact && subtrahend.compact) {
+            try {
+                return small(Math.subtractExact(this.SMALL, subtrahend.SMALL));
+            } catch (ArithmeticException overflow) {
+                // not a long any longer
+            }
+        }
+        Scaled a = scaled();
+        Scaled b = subtrahend.scaledIn(this.RADIX);
+        if (a == null || b == null) return result(decimal().subtract(subtrahend.decimal()));
+
+        int scale = Math.max(a.scale, b.scale);
+        return result(a.rescale(scale, this.RADIX).unscaled.subtract(b.rescale(scale, this.RADIX).unscaled), scale);
+    }
+
+    /**@return {@code this * multiplicand}, exact*/
+    public AbstractNumber multiply(AbstractNumber multiplicand) {
+        if (this.compact && multiplicand.compact) {
+            try {
+                return small(Math.multiplyExact(this.SMALL, multiplicand.SMALL));
+            } catch (ArithmeticException overflow) {
+                // not a long any longer
+            }
+        }
+        Scaled a = scaled();
+        Scaled b = multiplicand.scaledIn(this.RADIX);
+        if (a == null || b == null) return result(decimal().multiply(multiplicand.decimal()));
+        return result(a.unscaled.multiply(b.unscaled), Math.addExact(a.scale, b.scale));
+    }
+
+    /**
+     * @param precision the amount of digits after the decimal point, in the radix of this instance.
+     * @return {@code this / divisor}, rounded half up to {@code precision} digits.
+     * @throws IllegalArgumentException {@code precision} is negative or above {@link FractionEngine#MAX_PRECISION}.
+     * @throws ArithmeticException {@code divisor} is zero.
+     */
+    public AbstractNumber divide(AbstractNumber divisor, int precision)
+            throws IllegalArgumentException, ArithmeticException {
+        FractionEngine.requireValidPrecision(precision);
+        BigInteger[] a = this.fraction();
+        BigInteger[] b = divisor.fraction();
+        if (b[0].signum() == 0) throw new ArithmeticException("Division by zero");
+        return rounded(a[0].multiply(b[1]), a[1].multiply(b[0]), precision);
+    }
+
+    /**
+     * Move the point {@code digits} places to the right, i.e. multiply by {@code radix^digits}.
+     * @param digits negative to shift right instead, see {@link #shiftRight(int)}.
+     * @return {@code this * radix^digits}
+     */
+    public AbstractNumber shiftLeft(int digits) {
+        if (digits < 0) return shiftRight(-digits);
+        Scaled scaled = scaled();
+        if (scaled == null)
+            return result(decimal().multiply(new BigDecimal(Scaled.power(this.RADIX, digits))));
+        if (scaled.scale >= digits) return result(scaled.unscaled, scaled.scale - digits);
+        return result(scaled.unscaled.multiply(Scaled.power(this.RADIX, digits - scaled.scale)), 0);
+    }
+
+    /**
+     * Move the point {@code digits} places to the left, i.e. divide by {@code radix^digits}: exact, as no digit is
+     * lost. An instance only holding a rounded value keeps {@code digits} more digits than its precision.
+     * @param digits negative to shift left instead, see {@link #shiftLeft(int)}.
+     * @return {@code this / radix^digits}
+     */
+    public AbstractNumber shiftRight(int digits) {
+        if (digits < 0) return shiftLeft(-digits);
+        Scaled scaled = scaled();
+        if (scaled != null) return result(scaled.unscaled, Math.addExact(scaled.scale, digits));
+        BigInteger[] fraction = fraction();
+        return rounded(fraction[0], fraction[1].multiply(Scaled.power(this.RADIX, digits)),
+                Math.addExact(this.DECIMAL_LENGTH, digits));
+    }
+
+    /**
+     * @param exponent 0 or more.
+     * @return {@code this^exponent}, exact
+     * @throws IllegalArgumentException {@code exponent} is negative.
+     */
+    public AbstractNumber pow(int exponent) throws IllegalArgumentException {
+        if (exponent < 0)
+            throw new IllegalArgumentException(String.format("Invalid exponent %d: expected 0 or more", exponent));
+        Scaled scaled = scaled();
+        if (scaled == null) return result(decimal().pow(exponent));
+        return result(scaled.unscaled.pow(exponent), Math.multiplyExact(scaled.scale, exponent));
+    }
+
+    /**@return the exact value in {@link #RADIX}, or {@code null} if its digits are rounded (see {@link #exactHex})*/
+    private Scaled scaled() {
+        Scaled scaled = this.SCALED;
+        if (scaled != null) return scaled;
+        if (this.compact) return new Scaled(BigInteger.valueOf(this.SMALL), 0);
+
+        BigDecimal decimal = this.DECIMAL;
+        if (decimal != null && (this.RADIX == 10 || isWhole(decimal))) { // exact in this radix, whatever the digits
+            scaled = this.RADIX == 10 && decimal.scale() > 0 ? new Scaled(decimal.unscaledValue(), decimal.scale())
+                    : new Scaled(decimal.toBigIntegerExact(), 0);
+        } else if (this.exactHex) {
+            DigitCodec.Digits digits = digits();
+            BigInteger unscaled = RadixEngine.parse(digits.values, 0, digits.values.length, this.RADIX);
+            scaled = new Scaled(this.negative ? unscaled.negate() : unscaled, digits.values.length - digits.point);
+        } else {
+            return null;
+        }
+        if (this.PACKED == null) this.SCALED = scaled;
+        return scaled;
+    }
+
+    /**
+     * @return the exact value in {@code radix}: {@link #scaled()} if it is the radix of this instance, or an integer
+     *         (the same in every radix); {@code null} otherwise.
+     */
+    private Scaled scaledIn(int radix) {
+        if (this.compact) return new Scaled(BigInteger.valueOf(this.SMALL), 0);
+        Scaled scaled = scaled();
+        if (radix == this.RADIX || scaled == null) return scaled;
+        scaled = scaled.stripTrailingZeros(this.RADIX);
+        return scaled.scale == 0 ? scaled : null;
+    }
+
+    /**@return the value as {@code {numerator, denominator}}, exact unless it only is held rounded in {@link #DECIMAL}*/
+    private BigInteger[] fraction() {
+        Scaled scaled = scaled();
+        if (scaled != null) return new BigInteger[]{scaled.unscaled, Scaled.power(this.RADIX, scaled.scale)};
+        BigDecimal decimal = decimal();
+        if (decimal.scale() <= 0) return new BigInteger[]{decimal.toBigIntegerExact(), BigInteger.ONE};
+        return new BigInteger[]{decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale())};
+    }
+
+    /**@return {@code numerator / denominator} rounded half up to {@code precision} digits after the point*/
+    private AbstractNumber rounded(BigInteger numerator, BigInteger denominator, int precision) {
+        BigInteger[] qr = numerator.abs().multiply(Scaled.power(this.RADIX, precision))
+                .divideAndRemainder(denominator.abs());
+        BigInteger quotient = qr[0];
+        if (qr[1].shiftLeft(1).compareTo(denominator.abs()) >= 0) quotient = quotient.add(BigInteger.ONE);
+        return result(numerator.signum() * denominator.signum() < 0 ? quotient.negate() : quotient, precision);
+    }
+
+    private AbstractNumber small(long value) {
+        return new AbstractNumber(value, this.RADIX, this.DECIMAL_LENGTH, value < 0);
+    }
+
+    /**@return {@code unscaled / RADIX^scale} in the radix and precision of this instance, compact if it can be*/
+    private AbstractNumber result(BigInteger unscaled, int scale) {
+        if (scale > 0) {
+            BigInteger[] qr = unscaled.divideAndRemainder(Scaled.power(this.RADIX, scale));
+            if (qr[1].signum() == 0) {
+                unscaled = qr[0];
+                scale = 0;
+            }
+        }
+        if (scale == 0 && unscaled.bitLength() < Long.SIZE) return small(unscaled.longValue());
+        return new AbstractNumber(new Scaled(unscaled, scale), this.RADIX, this.DECIMAL_LENGTH);
+    }
+
+    /**@return {@code decimal} in the radix and precision of this instance*/
+    private AbstractNumber result(BigDecimal decimal) {
+        return new AbstractNumber(decimal, this.RADIX, isWhole(decimal), this.DECIMAL_LENGTH);
+    }
+
+    private static boolean isWhole(BigDecimal decimal) {
+        return decimal.signum() == 0 || decimal.stripTrailingZeros().scale() <= 0;
+    }
+
+    /**
+     * Compares {@code this} with another {@link AbstractNumber}.
+     * This will only check for the number's value, ie. the independent {@link #DECIMAL decimal} variable.
+     * Fractions of a radix with prime factors other than 2 and 5 are compared by their rounded Base 10 value (see
+     * {@link #canonical()}), so two of them closer than its last decimal place may compare equal; the ordering is a
+     * total order all the same, consistent with {@link #equals(Object)} and {@link #hashCode()}.
+     * @param abstractNumber the other number to be evaluated.
+     * @return {@code -1} if this instance is numerically <u>less</u> than the other; {@code 0} if
+     *         they are numerically <u>equal</u> to each other; {@code 1} if this instance is numerically <u>greater</u>
+     *         than the other.
+     */
+    @Override
+    public int compareTo(AbstractNumber abstractNumber) {
+        if (this.compact && abstractNumber.compact) return Long.compare(this.SMALL, abstractNumber.SMALL);
+
+        // exact digits in the same radix compare symbol by symbol, without parsing either; this agrees with comparing
+        // canonical values only where those are exact too, and mixing both orderings otherwise is not transitive
+        String hex = this.HEX;
+        String other = abstractNumber.HEX;
+        if (this.RADIX == abstractNumber.RADIX && this.exactHex && abstractNumber.exactHex && hex != null
+                && other != null && FractionEngine.isExactInDecimal(this.RADIX)) {
+            int signum = DigitCodec.isZero(hex) ? 0 : this.negative ? -1 : 1;
+            int otherSignum = DigitCodec.isZero(other) ? 0 : abstractNumber.negative ? -1 : 1;
+            if (signum != otherSignum) return Integer.compare(signum, otherSignum);
+            return signum * DigitCodec.compareMagnitudes(hex, other);
+        }
+        return this.canonical().compareTo(abstractNumber.canonical());
+    }
+
+    /**
+     * Two numbers are equal if they are numerically equal (see {@link #compareTo(AbstractNumber)}), whatever their
+     * radix and precision, so that equality is consistent with the natural ordering.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractNumber number = (AbstractNumber) o;
+        if (compact && number.compact) return SMALL == number.SMALL;
+        return hashCode() == number.hashCode() && compareTo(number) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        if (compact) return hash(SMALL);
+
+        int h = this.hash;
+        if (h == 0 && !this.hashIsZero) {
+            // integers that fit in a long hash the same way whether they are compact or not, see equals(Object)
+            BigDecimal canonical = canonical();
+            if (canonical.scale() <= 0 && canonical.precision() - canonical.scale() <= 19
+                    && canonical.toBigInteger().bitLength() < Long.SIZE) h = hash(canonical.longValue());
+            else h = canonical.hashCode();
+
+            if (h == 0) this.hashIsZero = true;
+            else this.hash = h;
+        }
+        return h;
+    }
+
+    private static int hash(long value) {
+        return 31 * Long.hashCode(value) + Boolean.hashCode(value < 0);
+    }
+
+    /**
+     * Sort numbers in ascending order, keeping only the first of numerically equal ones (see {@link #equals(Object)}).
+     * The values that cannot be compared digit by digit are computed once up front, in parallel, so that the sort
+     * itself never parses a number.
+     * @return a new list of the distinct numbers
+     */
+    public static List<AbstractNumber> sortDistinct(Collection<? extends AbstractNumber> numbers) {
+        AbstractNumber[] sorted = numbers.toArray(new AbstractNumber[0]);
+        Arrays.stream(sorted).parallel()
+                .filter(number -> !number.compact
+                        && !(number.exactHex && number.HEX != null && FractionEngine.isExactInDecimal(number.RADIX)))
+                .forEach(AbstractNumber::canonical);
+        Arrays.parallelSort(sorted); // stable: the first of equal numbers stays first
+
+        int distinct = 0;
+        for (AbstractNumber number : sorted)
+            if (distinct == 0 || sorted[distinct - 1].compareTo(number) != 0) sorted[distinct++] = number;
+        return new ArrayList<>(Arrays.asList(sorted).subList(0, distinct));
+    }
+
+    /**An exact value in the radix of the instance holding it: {@code unscaled / radix^scale}.*/
+    private static final class Scaled {
+        final BigInteger unscaled;
+        final int scale;
+
+        Scaled(BigInteger unscaled, int scale) {
+            this.unscaled = unscaled;
+            this.scale = scale;
+        }
+
+        static BigInteger power(int radix, int exponent) {
+            return BigInteger.valueOf(radix).pow(exponent);
+        }
+
+        /**@return the same value over {@code radix^scale}, which must not be less than {@link #scale}*/
+        Scaled rescale(int scale, int radix) {
+            return scale == this.scale ? this : new Scaled(unscaled.multiply(power(radix, scale - this.scale)), scale);
+        }
+
+        /**@return the same value without the trailing zeroes of its fraction*/
+        Scaled stripTrailingZeros(int radix) {
+            BigInteger unscaled = this.unscaled;
+            int scale = this.scale;
+            if (RadixEngine.isPowerOfTwo(radix)) {
+                int bits = Integer.numberOfTrailingZeros(radix);
+                int zeroes = unscaled.signum() == 0 ? scale : Math.min(scale, unscaled.getLowestSetBit() / bits);
+                unscaled = unscaled.shiftRight(zeroes * bits);
+                scale -= zeroes;
+            } else {
+                BigInteger divisor = BigInteger.valueOf(radix);
+                while (scale > 0) {
+                    BigInteger[] qr = unscaled.divideAndRemainder(divisor);
+                    if (qr[1].signum() != 0) break;
+                    unscaled = qr[0];
+                    scale--;
+                }
+            }
+            return scale == this.scale ? this : new Scaled(unscaled, scale);
+        }
+
+        /**@return the digits, as spelled out by {@link DigitCodec.Digits#toString()} and preceded by {@code '-'}*/
+        String spell(int radix) {
+            String digits = RadixEngine.format(unscaled.abs(), radix);
+            StringBuilder hex = new StringBuilder(digits.length() + scale + 2);
+            if (unscaled.signum() < 0) hex.append('-');
+            if (scale == 0) return hex.append(digits).toString();
+
+            int integer = digits.length() - scale;
+            if (integer <= 0) hex.append('0').append(DECIMAL_SPLIT).append("0".repeat(-integer)).append(digits);
+            else hex.append(digits, 0, integer).append(DECIMAL_SPLIT).append(digits, integer, digits.length());
+            return hex.toString();
+        }
+    }
+
+    @Override
+    public String toString() {
+        String hex = hexDigits(); // not signed when read as it was given
+        return "AbstractNumber{" +
+                "radix='" + this.RADIX + '\'' +
+                ", hex='" + (this.negative && !hex.startsWith("-") ? "-" + hex : hex) + '\'' +
+                ", binary='" + binary() + '\'' +
+                ", decimal='" + decimal() + '\'' +
+                ", negative='" + this.negative + '\'' +
+                '}';
+    }
+}
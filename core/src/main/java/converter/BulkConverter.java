@@ -0,0 +1,130 @@
+package converter;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+/**
+ * Converts many numbers from one radix to another at once, fanning the work out over an {@link ExecutorService}
+ * ({@link ForkJoinPool#commonPool()} unless told otherwise).
+ * <p>
+ * Results come back in the order of the input, and a value that cannot be converted yields a failed
+ * {@link Result} instead of aborting the whole batch.
+ */
+final class BulkConverter {
+    /**Slices handed to every thread of the executor, so that uneven inputs still balance out.*/
+    private static final int SLICES_PER_THREAD = 4;
+
+    private final Converter converter;
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    /**
+     * The outcome of a single conversion: either its {@link #getOutput() output} or the {@link #getError() error}
+     * it failed with.
+     */
+    public static final class Result {
+        private final String input;
+        private final String output;
+        private final RuntimeException error;
+
+        private Result(String input, String output, RuntimeException error) {
+            this.input = input;
+            this.output = output;
+            this.error = error;
+        }
+
+        public String getInput() {
+            return input;
+        }
+
+        /**@return the converted number, or {@code null} if the conversion failed*/
+        public String getOutput() {
+            return output;
+        }
+
+        /**@return why the conversion failed, or {@code null} if it succeeded*/
+        public RuntimeException getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess() ? output : input + " -> " + error.getMessage();
+        }
+    }
+
+    /**Convert on the {@link ForkJoinPool#commonPool() common pool}.*/
+    public BulkConverter(int sourceBase, int targetBase, int precision) throws IllegalArgumentException {
+        this(sourceBase, targetBase, precision, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor runs the conversions; it is neither owned nor shut down by this converter.
+     * @throws IllegalArgumentException either radix out of bounds, or a precision out of range, see
+     *         {@link Converter#of(int, int, int)}.
+     */
+    public BulkConverter(int sourceBase, int targetBase, int precision, ExecutorService executor)
+            throws IllegalArgumentException {
+        this.converter = Converter.of(sourceBase, targetBase, precision);
+        this.executor = Objects.requireNonNull(executor);
+        this.parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Convert every number of {@code inputs}.
+     * @return one {@link Result} per input, in the same order.
+     */
+    public List<Result> convert(List<String> inputs) {
+        int size = inputs.size();
+        Result[] results = new Result[size];
+        int slices = Math.min(size, parallelism * SLICES_PER_THREAD);
+        if (slices <= 1) {
+            for (int i = 0; i < size; i++) results[i] = convert(inputs.get(i));
+            return Arrays.asList(results);
+        }
+
+        List<Future<?>> futures = new ArrayList<>(slices);
+        for (int s = 0; s < slices; s++) {
+            int from = (int) ((long) size * s / slices);
+            int to = (int) ((long) size * (s + 1) / slices);
+            futures.add(executor.submit(() -> {
+                for (int i = from; i < to; i++) results[i] = convert(inputs.get(i));
+            }));
+        }
+
+        try {
+            for (Future<?> future : futures) future.get();
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while converting");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause()); // only reachable through an Error in a worker
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Lazily convert a stream of numbers in parallel (on the common pool), keeping its encounter order.
+     * @return one {@link Result} per input.
+     */
+    public Stream<Result> convert(Stream<String> inputs) {
+        return inputs.parallel().map(this::convert);
+    }
+
+    /**Convert a single number, capturing any failure in the {@link Result}.*/
+    public Result convert(String input) {
+        try {
+            return new Result(input, converter.convert(input.trim()), null);
+        } catch (RuntimeException exception) {
+            return new Result(input, null, exception);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, least recently used cache of conversion results, for workloads that convert the same inputs between
+ * the same radices over and over.
+ * <p>
+ * {@link #convert(String, int, int, int)} returns exactly what
+ * {@code new AbstractNumber(input, sourceRadix).setPrecision(precision).newRadix(targetRadix).hex()} returns.
+ * Failed conversions are not cached. The cache is safe for concurrent use; a result missing from the cache is
+ * computed outside of the lock, so two threads may occasionally compute the same result.
+ */
+final class ConversionCache {
+    private final int capacity;
+    private final Map<Key, String> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**What a conversion result depends on.*/
+    private static final class Key {
+        final String input;
+        final int sourceRadix;
+        final int targetRadix;
+        final int precision;
+        final int hash;
+
+        Key(String input, int sourceRadix, int targetRadix, int precision) {
+            this.input = input;
+            this.sourceRadix = sourceRadix;
+            this.targetRadix = targetRadix;
+            this.precision = precision;
+            this.hash = Objects.hash(input, sourceRadix, targetRadix, precision);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return hash == key.hash && sourceRadix == key.sourceRadix && targetRadix == key.targetRadix
+                    && precision == key.precision && input.equals(key.input);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * @param capacity the most results kept at once; the least recently used one is evicted beyond that.
+     * @throws IllegalArgumentException {@code capacity} is not positive.
+     */
+    public ConversionCache(int capacity) throws IllegalArgumentException {
+        if (capacity <= 0)
+            throw new IllegalArgumentException(String.format("Invalid capacity %d: expected 1 or more", capacity));
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                if (size() <= ConversionCache.this.capacity) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Convert {@code input}, reusing an earlier result if there is one.
+     * @return {@code input} in {@code targetRadix}, with {@code precision} digits after the
+     *         {@link AbstractNumber#DECIMAL_SPLIT} if it is not an integer.
+     * @throws IllegalArgumentException see {@link AbstractNumber#AbstractNumber(String, int)}.
+     */
+    public String convert(String input, int sourceRadix, int targetRadix, int precision)
+            throws IllegalArgumentException {
+        Key key = new Key(input, sourceRadix, targetRadix, precision);
+        String result;
+        synchronized (entries) {
+            result = entries.get(key);
+        }
+        if (result != null) {
+            hits.increment();
+            ConversionMetrics.cacheHit();
+            return result;
+        }
+
+        misses.increment();
+        long start = ConversionMetrics.recording() ? System.nanoTime() : 0;
+        result = new AbstractNumber(input, sourceRadix).setPrecision(precision).newRadix(targetRadix).hex();
+        if (ConversionMetrics.recording())
+            ConversionMetrics.conversion(sourceRadix, targetRadix, input.length(), System.nanoTime() - start);
+        synchronized (entries) {
+            entries.put(key, result);
+        }
+        return result;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**Forget every result; the counters are kept.*/
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConversionCache{size=%d, capacity=%d, hits=%d, misses=%d, evictions=%d}",
+                size(), capacity, hits(), misses(), evictions());
+    }
+}
@@ -0,0 +1,347 @@
+package converter;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional instrumentation of conversions: how many there were, how many inputs were rejected and why, and how long
+ * conversions took by source radix, target radix and input length (in power-of-two buckets).
+ * <p>
+ * {@link ConversionMetricsMXBean} lists which conversions are measured. Those through
+ * {@link AbstractNumber#newRadix(int)} are not: their digits are only spelled out once asked for, so there is no
+ * single call to time.
+ * <p>
+ * Disabled unless {@code -Dconverter.metrics=true} or {@link #setEnabled(boolean)}: instrumented code checks
+ * {@link #recording()}, a single volatile read, before measuring anything. Recording is safe from any amount of
+ * threads and never allocates once the histogram of a (source, target, length) bucket exists. Everything recorded is
+ * available from {@link #snapshot()}, and through JMX once {@link #register() registered}.
+ */
+final class ConversionMetrics implements ConversionMetricsMXBean {
+    static final String OBJECT_NAME = "converter:type=ConversionMetrics";
+
+    private static final int RADICES = DigitCodec.MAX_RADIX + 1;
+    /**Bucket {@code b} holds the lengths within {@code [2^(b - 1), 2^b)}, and bucket 0 the empty inputs.*/
+    private static final int LENGTH_BUCKETS = Integer.SIZE;
+    /**Bucket {@code b} holds the latencies within {@code [2^b, 2^(b + 1))} nanoseconds.*/
+    private static final int LATENCY_BUCKETS = Long.SIZE;
+
+    private static final ConversionMetrics INSTANCE = new ConversionMetrics();
+
+    private static volatile boolean enabled = Boolean.getBoolean("converter.metrics");
+
+    private final LongAdder conversions = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    /**Histograms by {@code sourceRadix * RADICES + targetRadix}, then by length bucket, created on first use.*/
+    private final AtomicReferenceArray<AtomicReferenceArray<Histogram>> latencies =
+            new AtomicReferenceArray<>(RADICES * RADICES);
+
+    private ConversionMetrics() {
+    }
+
+    private static final class Histogram {
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final AtomicLong max = new AtomicLong();
+        final AtomicLongArray buckets = new AtomicLongArray(LATENCY_BUCKETS);
+
+        void record(long nanos) {
+            this.count.increment();
+            this.nanos.add(nanos);
+            this.buckets.incrementAndGet(Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos | 1));
+            long max = this.max.get();
+            while (nanos > max && !this.max.compareAndSet(max, nanos)) max = this.max.get();
+        }
+    }
+
+    /**The metrics of every conversion in this JVM.*/
+    static ConversionMetrics get() {
+        return INSTANCE;
+    }
+
+    /**@return should conversions be measured?*/
+    static boolean recording() {
+        return enabled;
+    }
+
+    /**
+     * Record a successful conversion; a no-op unless {@link #recording()}.
+     * @param length the length of the input.
+     */
+    static void conversion(int sourceRadix, int targetRadix, int length, long nanos) {
+        if (!enabled) return;
+        INSTANCE.conversions.increment();
+        INSTANCE.histogram(sourceRadix, targetRadix, Integer.SIZE - Integer.numberOfLeadingZeros(length))
+                .record(Math.max(0, nanos));
+    }
+
+    /**Record a result served by a {@link ConversionCache}; a no-op unless {@link #recording()}.*/
+    static void cacheHit() {
+        if (enabled) INSTANCE.cacheHits.increment();
+    }
+
+    /**Record a rejected input; a no-op unless {@link #recording()}.*/
+    static void error(RuntimeException error) {
+        if (!enabled) return;
+        INSTANCE.errors.computeIfAbsent(error.getClass().getSimpleName(), kind -> new LongAdder()).increment();
+    }
+
+    private Histogram histogram(int sourceRadix, int targetRadix, int bucket) {
+        int pair = sourceRadix * RADICES + targetRadix;
+        AtomicReferenceArray<Histogram> buckets = latencies.get(pair);
+        if (buckets == null) {
+            latencies.compareAndSet(pair, null, new AtomicReferenceArray<>(LENGTH_BUCKETS));
+            buckets = latencies.get(pair);
+        }
+        Histogram histogram = buckets.get(bucket);
+        if (histogram == null) {
+            buckets.compareAndSet(bucket, null, new Histogram());
+            histogram = buckets.get(bucket);
+        }
+        return histogram;
+    }
+
+    /**
+     * Expose these metrics as the {@value #OBJECT_NAME} MXBean of the platform MBean server; calling it again has no
+     * effect.
+     * @throws IllegalStateException the MBean server refused the registration.
+     */
+    static void register() throws IllegalStateException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException ignored) {
+            // registered already
+        } catch (JMException exception) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, exception);
+        }
+    }
+
+    /**
+     * The latency of the conversions from one radix to another, for inputs of a length within
+     * {@code [getMinLength(), getMaxLength())}.
+     */
+    public static final class Latency {
+        private final int sourceRadix;
+        private final int targetRadix;
+        private final int bucket;
+        private final long count;
+        private final long nanos;
+        private final long max;
+        private final long[] buckets;
+
+        private Latency(int sourceRadix, int targetRadix, int bucket, Histogram histogram) {
+            this.sourceRadix = sourceRadix;
+            this.targetRadix = targetRadix;
+            this.bucket = bucket;
+            this.count = histogram.count.sum();
+            this.nanos = histogram.nanos.sum();
+            this.max = histogram.max.get();
+            this.buckets = new long[LATENCY_BUCKETS];
+            for (int i = 0; i < LATENCY_BUCKETS; i++) this.buckets[i] = histogram.buckets.get(i);
+        }
+
+        public int getSourceRadix() {
+            return sourceRadix;
+        }
+
+        public int getTargetRadix() {
+            return targetRadix;
+        }
+
+        /**@return the shortest input length of this bucket, inclusive*/
+        public long getMinLength() {
+            return bucket == 0 ? 0 : 1L << (bucket - 1);
+        }
+
+        /**@return the longest input length of this bucket, exclusive*/
+        public long getMaxLength() {
+            return 1L << bucket;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return nanos;
+        }
+
+        public long getMaxNanos() {
+            return max;
+        }
+
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) nanos / count;
+        }
+
+        /**
+         * @param percentile within {@code [0, 100]}.
+         * @return the latency no more than {@code percentile}% of the conversions exceeded, rounded up to the next
+         *         power of two (but never beyond {@link #getMaxNanos()}).
+         */
+        public long getPercentileNanos(double percentile) {
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < LATENCY_BUCKETS; i++) {
+                seen += buckets[i];
+                // the bound of the last buckets (2^63 - 1 and beyond) no longer fits: max is as tight anyway
+                if (seen >= rank && seen > 0) return i >= LATENCY_BUCKETS - 2 ? max : Math.min(max, (2L << i) - 1);
+            }
+            return max;
+        }
+
+        /**@return e.g. {@code "16->10 [64, 128)"}*/
+        String key() {
+            return String.format("%d->%d [%d, %d)", sourceRadix, targetRadix, getMinLength(), getMaxLength());
+        }
+
+        /**@return e.g. {@code "count=1000 mean=2.1us p50=2.0us p99=4.1us max=35.2us"}*/
+        String summary() {
+            return String.format("count=%d mean=%s p50=%s p99=%s max=%s", count, duration(getMeanNanos()),
+                    duration(getPercentileNanos(50)), duration(getPercentileNanos(99)), duration(max));
+        }
+
+        @Override
+        public String toString() {
+            return key() + ": " + summary();
+        }
+
+        private static String duration(double nanos) {
+            if (nanos < 1e3) return String.format("%.0fns", nanos);
+            if (nanos < 1e6) return String.format("%.1fus", nanos / 1e3);
+            if (nanos < 1e9) return String.format("%.1fms", nanos / 1e6);
+            return String.format("%.2fs", nanos / 1e9);
+        }
+    }
+
+    /**
+     * Everything recorded up to a point in time. Counters are read one after the other while conversions may go on,
+     * so they can be off by the conversions that were in flight.
+     */
+    public static final class Snapshot {
+        private final long conversions;
+        private final long cacheHits;
+        private final Map<String, Long> errors;
+        private final List<Latency> latencies;
+
+        private Snapshot(long conversions, long cacheHits, Map<String, Long> errors, List<Latency> latencies) {
+            this.conversions = conversions;
+            this.cacheHits = cacheHits;
+            this.errors = errors;
+            this.latencies = latencies;
+        }
+
+        public long getConversions() {
+            return conversions;
+        }
+
+        public long getCacheHits() {
+            return cacheHits;
+        }
+
+        public long getErrors() {
+            long sum = 0;
+            for (long count : errors.values()) sum += count;
+            return sum;
+        }
+
+        /**@return rejected inputs by exception type, sorted by type*/
+        public Map<String, Long> getErrorsByKind() {
+            return errors;
+        }
+
+        /**@return by source radix, then target radix, then input length*/
+        public List<Latency> getLatencies() {
+            return latencies;
+        }
+
+        /**@return a summary over several lines, one per latency bucket*/
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format("Conversions: %d, cache hits: %d, errors: %d %s",
+                    conversions, cacheHits, getErrors(), errors));
+            for (Latency latency : latencies) builder.append(System.lineSeparator()).append("  ").append(latency);
+            return builder.toString();
+        }
+    }
+
+    /**@return everything recorded so far*/
+    public Snapshot snapshot() {
+        Map<String, Long> errors = new TreeMap<>();
+        this.errors.forEach((kind, count) -> errors.put(kind, count.sum()));
+
+        List<Latency> latencies = new ArrayList<>();
+        for (int pair = 0; pair < this.latencies.length(); pair++) {
+            AtomicReferenceArray<Histogram> buckets = this.latencies.get(pair);
+            if (buckets == null) continue;
+            for (int bucket = 0; bucket < LENGTH_BUCKETS; bucket++) {
+                Histogram histogram = buckets.get(bucket);
+                if (histogram != null)
+                    latencies.add(new Latency(pair / RADICES, pair % RADICES, bucket, histogram));
+            }
+        }
+        return new Snapshot(conversions.sum(), cacheHits.sum(), Collections.unmodifiableMap(errors),
+                Collections.unmodifiableList(latencies));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        ConversionMetrics.enabled = enabled;
+    }
+
+    @Override
+    public long getConversions() {
+        return conversions.sum();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        long sum = 0;
+        for (LongAdder count : errors.values()) sum += count.sum();
+        return sum;
+    }
+
+    @Override
+    public Map<String, Long> getErrorsByKind() {
+        return snapshot().getErrorsByKind();
+    }
+
+    @Override
+    public Map<String, String> getLatencies() {
+        Map<String, String> latencies = new LinkedHashMap<>();
+        for (Latency latency : snapshot().getLatencies()) latencies.put(latency.key(), latency.summary());
+        return latencies;
+    }
+
+    /**Forget everything recorded so far; conversions in flight may still be recorded afterwards.*/
+    @Override
+    public void reset() {
+        conversions.reset();
+        cacheHits.reset();
+        errors.clear();
+        for (int pair = 0; pair < latencies.length(); pair++) latencies.set(pair, null);
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
@@ -0,0 +1,38 @@
+package converter;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link ConversionMetrics}, registered as {@value ConversionMetrics#OBJECT_NAME}.
+ * <p>
+ * Conversions through {@link Converter}, {@link BulkConverter}, {@link FileConversion} and {@link ConversionCache}
+ * misses are measured. Cache hits are only counted, by {@link #getCacheHits()}. Conversions through
+ * {@link AbstractNumber#newRadix(int)} are not measured at all, though the inputs it rejects are.
+ */
+public interface ConversionMetricsMXBean {
+    boolean isEnabled();
+
+    /**Start or stop recording; what was recorded so far is kept.*/
+    void setEnabled(boolean enabled);
+
+    /**@return successful conversions, cache hits excluded*/
+    long getConversions();
+
+    /**@return results served by a {@link ConversionCache} without converting anything*/
+    long getCacheHits();
+
+    /**@return rejected inputs, of any kind*/
+    long getErrors();
+
+    /**@return rejected inputs by exception type, e.g. {@code NumberFormatException}*/
+    Map<String, Long> getErrorsByKind();
+
+    /**
+     * @return the latency of conversions by source radix, target radix and input length, e.g.
+     *         {@code "16->10 [64, 128)" -> "count=1000 mean=2.1us p50=2.0us p99=4.1us max=35.2us"}
+     */
+    Map<String, String> getLatencies();
+
+    /**Forget everything recorded so far.*/
+    void reset();
+}
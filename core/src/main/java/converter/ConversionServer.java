@@ -0,0 +1,218 @@
+package converter;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * A long running conversion service speaking a plain TCP line protocol, so that clients pay for JVM startup once
+ * rather than per batch. Every request is one line, answered by one line:
+ * <pre>
+ * request:  {source base} {target base} {precision} {number} [{number} ...]
+ * response: OK {converted} [{converted} ...]    every number, converted in order
+ *           ERR {index} {message}              the first number (from 1, or 0 for the radices and precision) that
+ *                                              could not be converted
+ * </pre>
+ * Numbers are converted by {@link Converter}, i.e. exactly like {@link AbstractNumber#newRadix(int)}. The precision
+ * is at most {@link FractionEngine#MAX_PRECISION}; a larger one is answered with {@code ERR 0} before anything is
+ * allocated for it. Any other failure of a request is answered with an {@code ERR} line as well, so that the
+ * requests pipelined after it still get their responses.
+ * <p>
+ * Clients may pipeline requests: every line is converted as soon as it is read, concurrently with the others, and
+ * the responses are written back in the order of the requests. At most {@link #getMaxInFlight()} requests (over all
+ * connections) are being converted at once; beyond that the server stops reading, and TCP pushes back on the
+ * clients. Connections and requests are handled on virtual threads where the runtime has them (Java 21+), and on
+ * a cached pool of platform threads otherwise.
+ */
+final class ConversionServer implements Runnable, Closeable {
+    /**Requests read ahead of the responses written back, per connection.*/
+    private static final int PIPELINE_DEPTH = 1 << 10;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String USAGE =
+            "ERR 0 Expected: {source base} {target base} {precision} {number} [{number} ...]";
+    /**Marks the end of the responses of a connection.*/
+    private static final Future<String> END = CompletableFuture.completedFuture(null);
+
+    private final ServerSocket server;
+    private final ExecutorService executor;
+    private final boolean virtual;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Listen on the loopback interface.
+     * @param port {@code 0} for any free port, see {@link #getPort()}.
+     * @param maxInFlight the most requests converted at once.
+     * @throws IllegalArgumentException {@code maxInFlight} is not positive.
+     * @throws IOException the port cannot be bound.
+     */
+    public ConversionServer(int port, int maxInFlight) throws IllegalArgumentException, IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), maxInFlight);
+    }
+
+    /**
+     * @param address where to listen.
+     * @param maxInFlight the most requests converted at once.
+     * @throws IllegalArgumentException {@code maxInFlight} is not positive.
+     * @throws IOException {@code address} cannot be bound.
+     */
+    public ConversionServer(InetSocketAddress address, int maxInFlight) throws IllegalArgumentException, IOException {
+        if (maxInFlight <= 0)
+            throw new IllegalArgumentException(String.format("Invalid maxInFlight %d: expected 1 or more", maxInFlight));
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+
+        ExecutorService executor;
+        boolean virtual;
+        try {
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            virtual = true;
+        } catch (ReflectiveOperationException exception) { // before Java 21
+            executor = Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "conversion-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+            virtual = false;
+        }
+        this.executor = executor;
+        this.virtual = virtual;
+        this.server = new ServerSocket();
+        this.server.bind(address);
+    }
+
+    /**Accept connections on a thread of the server until {@link #close() closed}.*/
+    public ConversionServer start() {
+        executor.execute(this);
+        return this;
+    }
+
+    /**Accept connections until {@link #close() closed}.*/
+    @Override
+    public void run() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                connections.add(socket);
+                executor.execute(() -> serve(socket));
+            } catch (IOException exception) {
+                if (server.isClosed()) return;
+            } catch (RejectedExecutionException exception) {
+                return; // closed
+            }
+        }
+    }
+
+    /**Read requests until the client is done, converting them in parallel and answering in order.*/
+    private void serve(Socket socket) {
+        BlockingQueue<Future<String>> responses = new ArrayBlockingQueue<>(PIPELINE_DEPTH);
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                     StandardCharsets.ISO_8859_1), BUFFER_SIZE);
+             Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+                     StandardCharsets.ISO_8859_1), BUFFER_SIZE)) {
+
+            Future<?> writer = executor.submit(() -> {
+                for (Future<String> response = responses.take(); response != END; response = responses.take()) {
+                    out.write(response.get());
+                    out.write('\n');
+                    if (responses.isEmpty()) out.flush();
+                }
+                out.flush();
+                return null;
+            });
+
+            try {
+                for (String line = in.readLine(); line != null && !writer.isDone(); line = in.readLine()) {
+                    String request = line;
+                    inFlight.acquire();
+                    try {
+                        put(responses, executor.submit(() -> {
+                            try {
+                                return handle(request);
+                            } finally {
+                                inFlight.release();
+                            }
+                        }), writer);
+                    } catch (RejectedExecutionException exception) {
+                        inFlight.release();
+                        throw exception;
+                    }
+                }
+            } catch (SocketException ignored) {
+                // reset by the client: answer what was read already
+            } finally {
+                put(responses, END, writer);
+            }
+            writer.get();
+        } catch (IOException | ExecutionException | RejectedExecutionException ignored) {
+            // the client went away, or the server was closed
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**Queue up {@code response}, unless {@code writer} failed (then nothing takes responses any longer).*/
+    private static void put(BlockingQueue<Future<String>> responses, Future<String> response, Future<?> writer)
+            throws InterruptedException {
+        while (!responses.offer(response, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) return;
+        }
+    }
+
+    /**@return the response to a single request line*/
+    static String handle(String request) {
+        String[] tokens = request.trim().split("\\s+");
+        if (tokens.length < 4) return USAGE;
+
+        Converter converter;
+        try {
+            int precision = Integer.parseInt(tokens[2]);
+            FractionEngine.requireValidPrecision(precision); // before Converter.of builds anything that large
+            converter = Converter.of(Integer.parseInt(tokens[0]), Integer.parseInt(tokens[1]), precision);
+        } catch (RuntimeException exception) {
+            return "ERR 0 " + exception.getMessage();
+        }
+
+        StringBuilder response = new StringBuilder("OK");
+        for (int i = 3; i < tokens.length; i++) {
+            try {
+                response.append(' ').append(converter.convert(tokens[i]));
+            } catch (RuntimeException exception) {
+                return "ERR " + (i - 2) + " " + exception.getMessage();
+            }
+        }
+        return response.toString();
+    }
+
+    /**@return the port listened on*/
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**@return are connections and requests handled on virtual threads?*/
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**Stop accepting connections and drop the open ones.*/
+    @Override
+    public void close() throws IOException {
+        server.close();
+        for (Socket socket : connections) socket.close();
+        executor.shutdownNow();
+    }
+}
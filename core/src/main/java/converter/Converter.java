@@ -0,0 +1,224 @@
+package converter;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A conversion from one radix to another at a fixed precision, prepared once and then applied to any amount of
+ * inputs. Converters are immutable and can be shared between threads freely.
+ * <p>
+ * {@link #convert(CharSequence)} returns exactly what
+ * {@code new AbstractNumber(input, sourceRadix).setPrecision(precision).newRadix(targetRadix).hex()} returns, without
+ * building any intermediate {@link AbstractNumber}: the radices are validated once, and the input is decoded in a
+ * single pass and converted straight from its digits. {@link #convert(ByteBuffer, ByteBuffer)} does the same from
+ * ASCII bytes to ASCII bytes, without any {@link String} in between.
+ */
+final class Converter {
+    private final int sourceRadix;
+    private final int targetRadix;
+    private final int precision;
+
+    /**Integers of up to this many digits are converted with {@code long} arithmetic.*/
+    private final int compactDigits;
+    /**{@code targetRadix^precision}, the scale of every converted fraction.*/
+    private final BigInteger scale;
+    /**What zero converts to.*/
+    private final String zero;
+    private final byte[] zeroAscii;
+
+    private Converter(int sourceRadix, int targetRadix, int precision) {
+        this.sourceRadix = sourceRadix;
+        this.targetRadix = targetRadix;
+        this.precision = precision;
+        this.compactDigits = RadixEngine.longDigits(sourceRadix);
+        this.scale = BigInteger.valueOf(targetRadix).pow(precision);
+        this.zero = "0" + AbstractNumber.DECIMAL_SPLIT + FractionEngine.zero(precision);
+        this.zeroAscii = this.zero.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param precision the amount of digits after the {@link AbstractNumber#DECIMAL_SPLIT} of converted fractions.
+     * @throws IllegalArgumentException either radix out of bounds, or a precision out of
+     *         {@code [0, }{@link FractionEngine#MAX_PRECISION}{@code ]}.
+     */
+    public static Converter of(int sourceRadix, int targetRadix, int precision) throws IllegalArgumentException {
+        DigitCodec.requireValidRadix(sourceRadix);
+        DigitCodec.requireValidRadix(targetRadix);
+        FractionEngine.requireValidPrecision(precision);
+        return new Converter(sourceRadix, targetRadix, precision);
+    }
+
+    /**
+     * @param input a number in {@link #getSourceRadix() the source radix}, optionally preceded by {@code '-'}.
+     * @return {@code input} in {@link #getTargetRadix() the target radix}.
+     * @throws IllegalArgumentException see {@link AbstractNumber#AbstractNumber(String, int)}.
+     */
+    public String convert(CharSequence input) throws IllegalArgumentException {
+        if (!ConversionMetrics.recording()) return convertDigits(input);
+
+        long start = System.nanoTime();
+        String result;
+        try {
+            result = convertDigits(input);
+        } catch (RuntimeException exception) {
+            ConversionMetrics.error(exception);
+            throw exception;
+        }
+        ConversionMetrics.conversion(this.sourceRadix, this.targetRadix, input.length(), System.nanoTime() - start);
+        return result;
+    }
+
+    private String convertDigits(CharSequence input) {
+        DigitCodec.Digits digits = DigitCodec.decode(input, this.sourceRadix);
+        if (isCompact(digits)) {
+            long small = small(digits);
+            return small == 0 ? this.zero : RadixEngine.format(small, this.targetRadix);
+        }
+        return spell(digits, this.sourceRadix, this.targetRadix, round(digits), digits.negative, !digits.separated);
+    }
+
+    /**
+     * Convert the ASCII digits from the position of {@code input} to its limit, into {@code output} from its position
+     * on. Both buffers may be heap or direct ones; no {@link String} is created along the way.
+     * @param input a number in {@link #getSourceRadix() the source radix}, optionally preceded by {@code '-'}; its
+     *              position is moved to its limit once converted.
+     * @return the amount of bytes written into {@code output}
+     * @throws IllegalArgumentException see {@link AbstractNumber#AbstractNumber(String, int)}.
+     * @throws BufferOverflowException  {@code output} has too little room left; the position of either buffer is
+     *                                  left as it was.
+     */
+    public int convert(ByteBuffer input, ByteBuffer output) throws IllegalArgumentException, BufferOverflowException {
+        if (!ConversionMetrics.recording()) return convertDigits(input, output);
+
+        long start = System.nanoTime();
+        int length = input.remaining();
+        int written;
+        try {
+            written = convertDigits(input, output);
+        } catch (RuntimeException exception) {
+            ConversionMetrics.error(exception);
+            throw exception;
+        }
+        ConversionMetrics.conversion(this.sourceRadix, this.targetRadix, length, System.nanoTime() - start);
+        return written;
+    }
+
+    /**
+     * Same as {@link #convert(ByteBuffer, ByteBuffer)}, reading the ASCII digits of {@code input[offset, offset +
+     * length)}.
+     */
+    public int convert(byte[] input, int offset, int length, ByteBuffer output)
+            throws IllegalArgumentException, BufferOverflowException {
+        return convert(ByteBuffer.wrap(input, offset, length), output);
+    }
+
+    private int convertDigits(ByteBuffer input, ByteBuffer output) {
+        DigitCodec.Digits digits = DigitCodec.decode(DigitCodec.ascii(input), this.sourceRadix);
+        int written;
+        if (isCompact(digits)) {
+            long small = small(digits);
+            if (small != 0) {
+                written = RadixEngine.format(small, this.targetRadix, output);
+            } else {
+                output.put(this.zeroAscii);
+                written = this.zeroAscii.length;
+            }
+        } else {
+            written = stream(digits, this.sourceRadix, this.targetRadix, round(digits), digits.negative,
+                    !digits.separated, new DigitStream()).writeTo(output);
+        }
+        input.position(input.limit());
+        return written;
+    }
+
+    private boolean isCompact(DigitCodec.Digits digits) {
+        return !digits.separated && digits.values.length <= this.compactDigits;
+    }
+
+    /**@return the value of {@link #isCompact(DigitCodec.Digits) compact} digits*/
+    private long small(DigitCodec.Digits digits) {
+        long small = 0;
+        for (byte value : digits.values) small = small * this.sourceRadix + value;
+        return digits.negative ? -small : small;
+    }
+
+    private FractionEngine.Rounded round(DigitCodec.Digits digits) {
+        return FractionEngine.round(digits.values, digits.point, digits.values.length, this.sourceRadix,
+                this.targetRadix, this.scale, this.precision);
+    }
+
+    public int getSourceRadix() {
+        return sourceRadix;
+    }
+
+    public int getTargetRadix() {
+        return targetRadix;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Spell out a number from its digits.
+     * @param digits the digits of the number (the sign is given by {@code negative}), in {@code sourceRadix}.
+     * @param fraction the digits after the {@link AbstractNumber#DECIMAL_SPLIT}, already converted into {@code radix}.
+     * @param integer is the number an integer? If so and the fraction is zero, it is left out altogether.
+     */
+    static String spell(DigitCodec.Digits digits, int sourceRadix, int radix, FractionEngine.Rounded fraction,
+                        boolean negative, boolean integer) {
+        byte[] values = digits.values;
+        int point = digits.point;
+        int from = 0;
+        while (from < values.length && values[from] == 0) from++;
+        if (from == values.length) return "0" + AbstractNumber.DECIMAL_SPLIT + FractionEngine.zero(fraction.length());
+
+        String res;
+        if (fraction.carry) {
+            res = RadixEngine.format(RadixEngine.parse(values, 0, point, sourceRadix).add(BigInteger.ONE), radix);
+        } else if (radix == sourceRadix) {
+            res = from >= point ? "0" : DigitCodec.symbols(values, from, point);
+        } else if (RadixEngine.isPowerOfTwo(sourceRadix) && RadixEngine.isPowerOfTwo(radix)) {
+            res = RadixEngine.repackInteger(values, 0, point, sourceRadix, radix);
+        } else {
+            res = RadixEngine.format(RadixEngine.parse(values, 0, point, sourceRadix), radix);
+        }
+        return spell(res, fraction, negative, integer);
+    }
+
+    /**
+     * Lazy counterpart of {@link #spell(DigitCodec.Digits, int, int, FractionEngine.Rounded, boolean, boolean)}: the
+     * integer part is only formatted as {@code stream} is consumed.
+     * @return {@code stream}
+     */
+    static DigitStream stream(DigitCodec.Digits digits, int sourceRadix, int radix, FractionEngine.Rounded fraction,
+                              boolean negative, boolean integer, DigitStream stream) {
+        byte[] values = digits.values;
+        int point = digits.point;
+        int from = 0;
+        while (from < values.length && values[from] == 0) from++;
+        if (from == values.length)
+            return stream.symbol('0').fraction(FractionEngine.zero(fraction.length()));
+
+        if (negative) stream.symbol('-');
+        if (fraction.carry) {
+            stream.integer(RadixEngine.parse(values, 0, point, sourceRadix).add(BigInteger.ONE), radix);
+        } else if (radix == sourceRadix) {
+            if (from >= point) stream.symbol('0');
+            else stream.digits(values, from, point);
+        } else if (RadixEngine.isPowerOfTwo(sourceRadix) && RadixEngine.isPowerOfTwo(radix)) {
+            stream.repack(values, 0, point, sourceRadix, radix);
+        } else {
+            stream.integer(RadixEngine.parse(values, 0, point, sourceRadix), radix);
+        }
+        return fraction.isZero() && integer ? stream : stream.fraction(fraction);
+    }
+
+    /**Put the sign, the integer part and the (rounded) fraction together.*/
+    static String spell(String integer, FractionEngine.Rounded fraction, boolean negative, boolean isInteger) {
+        String res = (negative ? "-" : "") + integer;
+        return fraction.isZero() && isInteger ? res : res + AbstractNumber.DECIMAL_SPLIT + fraction;
+    }
+}
@@ -0,0 +1,228 @@
+package converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Table driven translation between the symbols of {@link AbstractNumber.Instance} and their values.
+ * <p>
+ * {@link #decode(CharSequence, int)} validates a whole number (sign, {@link AbstractNumber#DECIMAL_SPLIT},
+ * alphabet and radix bounds) in a single pass and hands back the digit values ready for {@link RadixEngine}.
+ */
+final class DigitCodec {
+    /**{@code SYMBOLS[value]} is the ASCII symbol of a digit value.*/
+    static final byte[] SYMBOLS = new byte[AbstractNumber.Instance.values().length];
+
+    /**{@code VALUES[symbol]} is the value of an ASCII symbol, or {@code -1} if it is not part of the alphabet.*/
+    private static final byte[] VALUES = new byte[128];
+
+    static final int MAX_RADIX = SYMBOLS.length;
+
+    static {
+        java.util.Arrays.fill(VALUES, (byte) -1);
+        for (AbstractNumber.Instance instance : AbstractNumber.Instance.values()) {
+            SYMBOLS[instance.value] = (byte) instance.symbol;
+            VALUES[instance.symbol] = (byte) instance.value;
+        }
+    }
+
+    private DigitCodec() {
+    }
+
+    /**
+     * A validated number: its sign and the value of every digit, integer digits first.
+     */
+    static final class Digits {
+        final boolean negative;
+        final byte[] values;
+        /**Amount of digits before the {@link AbstractNumber#DECIMAL_SPLIT}*/
+        final int point;
+        /**Was a {@link AbstractNumber#DECIMAL_SPLIT} present at all?*/
+        final boolean separated;
+
+        Digits(boolean negative, byte[] values, int point, boolean separated) {
+            this.negative = negative;
+            this.values = values;
+            this.point = point;
+            this.separated = separated;
+        }
+
+        /**@return the digits as symbols, without the sign, e.g. {@code "A.8"}*/
+        @Override
+        public String toString() {
+            char[] chars = new char[values.length + (separated ? 1 : 0)];
+            int c = 0;
+            for (int i = 0; i < values.length; i++) {
+                if (separated && i == point) chars[c++] = AbstractNumber.DECIMAL_SPLIT;
+                chars[c++] = (char) SYMBOLS[values[i]];
+            }
+            if (separated && point == values.length) chars[c] = AbstractNumber.DECIMAL_SPLIT;
+            return chars.length == 0 ? "0" : new String(chars);
+        }
+    }
+
+    /**
+     * The bytes of {@code ascii} from its position to its limit, read as ISO-8859-1 characters in place: nothing is
+     * copied, and {@code ascii} itself is left as it is.
+     */
+    static CharSequence ascii(ByteBuffer ascii) {
+        return new Ascii(ascii.slice());
+    }
+
+    private static final class Ascii implements CharSequence {
+        private final ByteBuffer bytes;
+
+        Ascii(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return bytes.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new Ascii(bytes.duplicate().position(start).limit(end).slice());
+        }
+
+        @Override
+        public String toString() {
+            byte[] copy = new byte[bytes.limit()];
+            bytes.get(0, copy);
+            return new String(copy, java.nio.charset.StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**@return the symbols of {@code values[from, to)}*/
+    static String symbols(byte[] values, int from, int to) {
+        byte[] symbols = new byte[to - from];
+        for (int i = from; i < to; i++) symbols[i - from] = SYMBOLS[values[i]];
+        return new String(symbols, java.nio.charset.StandardCharsets.ISO_8859_1);
+    }
+
+    /**@return the value of {@code symbol}, or {@code -1} if it is not part of the alphabet*/
+    static int value(char symbol) {
+        return symbol < VALUES.length ? VALUES[symbol] : -1;
+    }
+
+    /**
+     * Compare the magnitudes of two numbers spelled out by {@link Digits#toString()} in the same radix (a leading
+     * {@code '-'} is ignored) without decoding them. Leading zeroes and trailing zeroes of the fraction do not count.
+     * @return a negative number, zero or a positive number as {@code a} is less than, equal to or greater than {@code b}
+     */
+    static int compareMagnitudes(String a, String b) {
+        int startA = integerStart(a);
+        int startB = integerStart(b);
+        int pointA = point(a, startA);
+        int pointB = point(b, startB);
+
+        int cmp = Integer.compare(pointA - startA, pointB - startB);
+        for (int i = 0; cmp == 0 && startA + i < pointA; i++)
+            cmp = Integer.compare(value(a.charAt(startA + i)), value(b.charAt(startB + i)));
+
+        // a fraction missing some digits has zeroes in their place
+        for (int i = 1; cmp == 0 && (pointA + i < a.length() || pointB + i < b.length()); i++) {
+            int digitA = pointA + i < a.length() ? value(a.charAt(pointA + i)) : 0;
+            int digitB = pointB + i < b.length() ? value(b.charAt(pointB + i)) : 0;
+            cmp = Integer.compare(digitA, digitB);
+        }
+        return cmp;
+    }
+
+    /**@return is {@code hex} (as spelled out by {@link Digits#toString()}) zero, whatever its sign?*/
+    static boolean isZero(String hex) {
+        for (int i = 0; i < hex.length(); i++) {
+            char c = hex.charAt(i);
+            if (c != '0' && c != '-' && c != AbstractNumber.DECIMAL_SPLIT) return false;
+        }
+        return true;
+    }
+
+    /**@return the index of the first digit of the integer part that is not a leading zero*/
+    private static int integerStart(String hex) {
+        int i = !hex.isEmpty() && hex.charAt(0) == '-' ? 1 : 0;
+        while (i < hex.length() && hex.charAt(i) == '0') i++;
+        return i;
+    }
+
+    /**@return the index of the {@link AbstractNumber#DECIMAL_SPLIT}, or the length if there is none*/
+    private static int point(String hex, int from) {
+        int point = hex.indexOf(AbstractNumber.DECIMAL_SPLIT, from);
+        return point < 0 ? hex.length() : point;
+    }
+
+    /**Letters are case insensitive as long as the upper case alphabet is enough to spell the radix.*/
+    static char fold(char symbol, int radix) {
+        return radix <= 36 && symbol >= 'a' && symbol <= 'z' ? (char) (symbol - ('a' - 'A')) : symbol;
+    }
+
+    /**
+     * Validate and decode a number in a single pass.
+     * @param hex the number, optionally preceded by {@code '-'}.
+     * @param radix the radix {@code hex} is written in.
+     * @return the decoded {@link Digits}
+     * @throws IllegalArgumentException too many separators; {@code radix} out of bounds; a digit is greater than or
+     *                                  equal to {@code radix}.
+     * @throws NumberFormatException    a symbol outside of the alphabet (no separator present).
+     * @throws IllegalStateException    a symbol outside of the alphabet (a separator present).
+     */
+    static Digits decode(CharSequence hex, int radix) throws IllegalArgumentException {
+        int length = hex.length();
+        boolean negative = length > 0 && hex.charAt(0) == '-';
+        byte[] values = new byte[length];
+        int digits = 0;
+        int point = -1;
+        int periods = 0;
+        int firstBad = -1; // position of the first symbol that is either invalid or outside of the radix
+        int firstOutside = -1;
+        StringBuilder invalid = null;
+
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            char c = hex.charAt(i);
+            if (c == AbstractNumber.DECIMAL_SPLIT) {
+                if (periods++ == 0) point = digits;
+                continue;
+            }
+
+            int value = value(fold(c, radix));
+            if (value < 0) {
+                if (invalid == null) invalid = new StringBuilder();
+                invalid.append(c);
+                if (firstBad < 0) firstBad = i;
+            } else if (value >= radix) {
+                if (firstOutside < 0) firstOutside = i;
+                if (firstBad < 0) firstBad = i;
+            }
+            values[digits++] = (byte) value;
+        }
+
+        if (periods > 1)
+            throw new IllegalArgumentException(String.format("Too many decimal separators! Expected 0, 1; found: " +
+                    "%dx '%c'", periods, AbstractNumber.DECIMAL_SPLIT));
+        requireValidRadix(radix);
+        if (periods == 0 && invalid != null)
+            throw new NumberFormatException(String.format("Invalid HEX Characters -> '%s'", invalid));
+        if (periods == 1 && invalid != null && firstBad != firstOutside)
+            throw new IllegalStateException(String.format("'%c' is not a valid Base64 Character!",
+                    fold(hex.charAt(firstBad), radix)));
+        if (firstOutside >= 0)
+            throw new IllegalArgumentException(String.format("Error! Digit '%c' is greater than or equal to upper" +
+                    " radix bound %d", fold(hex.charAt(firstOutside), radix), radix));
+
+        return new Digits(negative, digits == length ? values : java.util.Arrays.copyOf(values, digits),
+                point < 0 ? digits : point, periods == 1);
+    }
+
+    static void requireValidRadix(int radix) throws IllegalArgumentException {
+        if (radix > MAX_RADIX)
+            throw new IllegalArgumentException("This converter only supports up to Base64 encoding!");
+        if (radix < 2)
+            throw new IllegalArgumentException(String.format("Invalid radix %d: one cannot form a number out of" +
+                    "anything less than Base 2", radix));
+    }
+}
@@ -0,0 +1,215 @@
+package converter;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * The symbols of a number, produced lazily from the most significant one on, a chunk of at most
+ * {@link #CHUNK} symbols at a time.
+ * <p>
+ * A stream is assembled from pieces: literal symbols, digit values, digits regrouped between power-of-two radices,
+ * and integers to be formatted. The latter are split top-down like {@link RadixEngine#format(BigInteger, int)}
+ * does, so the first symbols come out after a handful of divisions, and a consumer that stops early never pays
+ * for the rest.
+ */
+final class DigitStream implements PrimitiveIterator.OfInt {
+    /**The most symbols produced at once.*/
+    static final int CHUNK = 1 << 11;
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    /**Pieces still to be produced, the next one first.*/
+    private final Deque<Piece> pending = new ArrayDeque<>();
+    private ByteBuffer chunk = EMPTY;
+
+    private abstract static class Piece {
+        /**
+         * Called while at the front of {@code pending}: either produce the next chunk (leaving this piece at the front
+         * if there is more to come), or replace this piece with the ones it is made of and return {@code null}.
+         */
+        abstract ByteBuffer next(Deque<Piece> pending);
+    }
+
+    /**Append symbols as they are.*/
+    DigitStream symbols(String symbols) {
+        return append(ByteBuffer.wrap(symbols.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+    /**Append a single (ASCII) symbol.*/
+    DigitStream symbol(char symbol) {
+        return append(ByteBuffer.wrap(new byte[] {(byte) symbol}));
+    }
+
+    /**Append the {@link AbstractNumber#DECIMAL_SPLIT} followed by the symbols of {@code fraction}.*/
+    DigitStream fraction(FractionEngine.Rounded fraction) {
+        return symbol(AbstractNumber.DECIMAL_SPLIT).append(fraction.symbols());
+    }
+
+    /**Append the remaining bytes of {@code symbols}, which the stream then owns.*/
+    private DigitStream append(ByteBuffer symbols) {
+        pending.addLast(new Piece() {
+            @Override
+            ByteBuffer next(Deque<Piece> pending) {
+                pending.removeFirst();
+                return symbols;
+            }
+        });
+        return this;
+    }
+
+    /**Append the symbols of {@code values[from, to)}.*/
+    DigitStream digits(byte[] values, int from, int to) {
+        pending.addLast(new Piece() {
+            private int position = from;
+
+            @Override
+            ByteBuffer next(Deque<Piece> pending) {
+                int end = Math.min(to, position + CHUNK);
+                byte[] out = new byte[end - position];
+                for (int i = 0; i < out.length; i++) out[i] = DigitCodec.SYMBOLS[values[position + i]];
+                if ((position = end) == to) pending.removeFirst();
+                return ByteBuffer.wrap(out);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Append the integer spelled out by {@code values[from, to)} in {@code sourceRadix}, regrouped into
+     * {@code targetRadix} (both powers of two) without leading zeroes, see
+     * {@link RadixEngine#repackInteger(byte[], int, int, int, int)}.
+     */
+    DigitStream repack(byte[] values, int from, int to, int sourceRadix, int targetRadix) {
+        int sourceBits = Integer.numberOfTrailingZeros(sourceRadix);
+        int targetBits = Integer.numberOfTrailingZeros(targetRadix);
+        pending.addLast(new Piece() {
+            private int position = from;
+            // as if enough zero bits came first for the groups to end on the last digit
+            private int bits = (targetBits - (int) ((long) (to - from) * sourceBits % targetBits)) % targetBits;
+            private int buffer = 0;
+            private boolean leading = true;
+
+            @Override
+            ByteBuffer next(Deque<Piece> pending) {
+                byte[] out = new byte[CHUNK];
+                int o = 0;
+                while (o < CHUNK) {
+                    if (bits >= targetBits) {
+                        bits -= targetBits;
+                        int digit = (buffer >>> bits) & (targetRadix - 1);
+                        buffer &= (1 << bits) - 1;
+                        if (digit != 0 || !leading) out[o++] = DigitCodec.SYMBOLS[digit];
+                        leading &= digit == 0;
+                    } else if (position < to) {
+                        buffer = (buffer << sourceBits) | values[position++];
+                        bits += sourceBits;
+                    } else {
+                        break;
+                    }
+                }
+                if (position == to && bits < targetBits) {
+                    pending.removeFirst();
+                    if (leading) out[o++] = '0';
+                }
+                return ByteBuffer.wrap(out, 0, o);
+            }
+        });
+        return this;
+    }
+
+    /**Append a non-negative integer formatted in {@code radix}, without leading zeroes.*/
+    DigitStream integer(BigInteger value, int radix) {
+        if (value.signum() == 0) return symbol('0');
+        int digits = (int) (value.bitLength() / (Math.log(radix) / Math.log(2))) + 2;
+        pending.addLast(new Formatted(value, radix, RadixEngine.powerTable(radix, digits), digits, true));
+        return this;
+    }
+
+    /**Exactly {@link #digits} symbols of {@link #value}, or fewer if {@link #strip leading zeroes} are left out.*/
+    private static final class Formatted extends Piece {
+        private final BigInteger value;
+        private final int radix;
+        private final BigInteger[] powers;
+        private final int digits;
+        private final boolean strip;
+
+        Formatted(BigInteger value, int radix, BigInteger[] powers, int digits, boolean strip) {
+            this.value = value;
+            this.radix = radix;
+            this.powers = powers;
+            this.digits = digits;
+            this.strip = strip;
+        }
+
+        @Override
+        ByteBuffer next(Deque<Piece> pending) {
+            pending.removeFirst();
+            if (digits <= CHUNK) {
+                byte[] out = RadixEngine.format(value, radix, digits);
+                int start = 0;
+                if (strip) while (start < digits - 1 && out[start] == '0') start++;
+                return ByteBuffer.wrap(out, start, digits - start);
+            }
+
+            int k = 31 - Integer.numberOfLeadingZeros(digits - 1);
+            int half = 1 << k;
+            BigInteger[] qr = value.divideAndRemainder(powers[k]);
+            boolean empty = strip && qr[0].signum() == 0;
+            pending.addFirst(new Formatted(qr[1], radix, powers, half, empty));
+            if (!empty) pending.addFirst(new Formatted(qr[0], radix, powers, digits - half, strip));
+            return null;
+        }
+    }
+
+    /**@return the next symbols (at most {@link #CHUNK}), or {@code null} once every symbol was produced*/
+    ByteBuffer nextChunk() {
+        if (chunk.hasRemaining()) {
+            ByteBuffer rest = chunk;
+            chunk = EMPTY;
+            return rest;
+        }
+        while (!pending.isEmpty()) {
+            ByteBuffer next = pending.peekFirst().next(pending);
+            if (next != null && next.hasRemaining()) return next;
+        }
+        return null;
+    }
+
+    /**
+     * Write every symbol left into {@code out}, from its position on.
+     * @return the amount of bytes written
+     * @throws BufferOverflowException {@code out} has too little room left; its position is left as it was.
+     */
+    int writeTo(ByteBuffer out) throws BufferOverflowException {
+        int start = out.position();
+        try {
+            for (ByteBuffer next = nextChunk(); next != null; next = nextChunk()) out.put(next);
+        } catch (BufferOverflowException exception) {
+            out.position(start);
+            throw exception;
+        }
+        return out.position() - start;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (chunk.hasRemaining()) return true;
+        ByteBuffer next = nextChunk();
+        if (next == null) return false;
+        chunk = next;
+        return true;
+    }
+
+    /**@return the next symbol*/
+    @Override
+    public int nextInt() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return chunk.get();
+    }
+}
@@ -0,0 +1,158 @@
+package converter;
+
+import java.io.IOException;
+import java.lang.management.*;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+/**
+ * File to file conversion of integers too large to be handled as a {@link String}.
+ * <p>
+ * The input is read a block at a time and its symbols are decoded straight into digit values for {@link RadixEngine};
+ * the converted symbols come out of a {@link DigitStream} a chunk at a time and are written to the output
+ * {@link FileChannel} as they are produced, so the whole output is never held in memory.
+ * Whitespace around the number is ignored; a leading {@code '-'} is kept.
+ */
+final class FileConversion {
+    /**Bytes read from the input, and written to the output, at once.*/
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private FileConversion() {
+    }
+
+    /**
+     * What a conversion went through.
+     */
+    static final class Report {
+        final long inputDigits;
+        final long outputDigits;
+        final long nanos;
+        /**Highest heap occupancy seen during the conversion, in bytes.*/
+        final long peakHeap;
+
+        private Report(long inputDigits, long outputDigits, long nanos, long peakHeap) {
+            this.inputDigits = inputDigits;
+            this.outputDigits = outputDigits;
+            this.nanos = nanos;
+            this.peakHeap = peakHeap;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Converted %d digits into %d digits in %.3f s (peak heap: %d MiB)",
+                    inputDigits, outputDigits, nanos / 1e9, peakHeap >> 20);
+        }
+    }
+
+    /**
+     * Convert the integer stored in {@code input} from {@code sourceRadix} to {@code targetRadix} into {@code output}.
+     * @throws IllegalArgumentException either radix out of bounds; a digit is greater than or equal to
+     *                                  {@code sourceRadix}; a {@link AbstractNumber#DECIMAL_SPLIT} was found.
+     * @throws NumberFormatException    a symbol outside of the alphabet.
+     * @throws IOException              reading {@code input} or writing {@code output} failed.
+     */
+    static Report convert(Path input, Path output, int sourceRadix, int targetRadix) throws IOException {
+        DigitCodec.requireValidRadix(sourceRadix);
+        DigitCodec.requireValidRadix(targetRadix);
+        resetPeakHeap();
+        long start = System.nanoTime();
+
+        byte[] values;
+        int digits = 0;
+        boolean negative = false;
+        boolean zero = true;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= Integer.MAX_VALUE)
+                throw new IllegalArgumentException(String.format("%s holds more digits than fit in an array", input));
+            values = new byte[(int) size];
+
+            boolean started = false;
+            boolean ended = false;
+            while (channel.read(buffer.clear()) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    char c = (char) (buffer.get() & 0xFF);
+                    if (Character.isWhitespace(c)) {
+                        ended |= started;
+                    } else if (c == '-' && !started && !negative) {
+                        negative = true;
+                    } else {
+                        if (ended) throw new NumberFormatException(String.format("Invalid HEX Characters -> '%c'", c));
+                        if (digits == values.length)
+                            throw new IllegalStateException(String.format("%s grew while being read", input));
+                        started = true;
+                        int value = decode(c, sourceRadix);
+                        zero &= value == 0;
+                        values[digits++] = (byte) value;
+                    }
+                }
+            }
+        } catch (RuntimeException exception) {
+            ConversionMetrics.error(exception);
+            throw exception;
+        }
+
+        DigitStream stream = new DigitStream();
+        if (negative && !zero) stream.symbol('-');
+        if (RadixEngine.isPowerOfTwo(sourceRadix) && RadixEngine.isPowerOfTwo(targetRadix)) {
+            stream.repack(values, 0, digits, sourceRadix, targetRadix);
+        } else {
+            BigInteger value = RadixEngine.parse(values, 0, digits, sourceRadix);
+            values = null; // let the digits go before the output is formatted
+            stream.integer(value, targetRadix);
+        }
+
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.clear();
+            for (ByteBuffer chunk = stream.nextChunk(); chunk != null; chunk = stream.nextChunk()) {
+                written += chunk.remaining();
+                if (chunk.remaining() > buffer.remaining()) drain(buffer, channel);
+                buffer.put(chunk);
+            }
+            drain(buffer, channel);
+        }
+        if (negative && !zero) written--; // only digits count
+
+        long nanos = System.nanoTime() - start;
+        ConversionMetrics.conversion(sourceRadix, targetRadix, digits, nanos);
+        return new Report(digits, written, nanos, peakHeap());
+    }
+
+    /**Write out everything in {@code buffer}, and clear it for more.*/
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**@return the value of a single symbol of the input*/
+    private static int decode(char symbol, int radix) throws IllegalArgumentException {
+        if (symbol == AbstractNumber.DECIMAL_SPLIT)
+            throw new IllegalArgumentException("File conversion only supports integers");
+        int value = DigitCodec.value(DigitCodec.fold(symbol, radix));
+        if (value < 0)
+            throw new NumberFormatException(String.format("Invalid HEX Characters -> '%c'", symbol));
+        if (value >= radix)
+            throw new IllegalArgumentException(String.format("Error! Digit '%c' is greater than or equal to upper" +
+                    " radix bound %d", DigitCodec.fold(symbol, radix), radix));
+        return value;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        return peak;
+    }
+}
@@ -0,0 +1,251 @@
+package converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exact conversion of the digits after the {@link AbstractNumber#DECIMAL_SPLIT}.
+ * <p>
+ * A fraction of {@code n} digits in radix {@code r} is the integer they spell out over {@code r^n}; converting it
+ * to {@code p} digits in radix {@code t} is a single rounded division {@code numerator * t^p / r^n}, so the work
+ * follows the cost of {@link BigInteger} multiplication/division rather than one {@link BigDecimal} operation of
+ * ever growing scale per digit. Rounding is always {@link RoundingMode#HALF_UP}. Same radix and power-of-two
+ * conversions skip the division altogether and round digit by digit in a single pass.
+ */
+final class FractionEngine {
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+
+    /**The least scale of fractions that cannot be written exactly in Base 10, matching {@code DECIMAL128}.*/
+    private static final int MIN_SCALE = 34;
+
+    /**
+     * The most digits after the point any conversion may ask for, see {@code -Dconverter.maxPrecision}: the scale
+     * {@code radix^precision} is built up front, so a single int must not be able to ask for gigabytes.
+     */
+    static final int MAX_PRECISION = Integer.getInteger("converter.maxPrecision", 1 << 20);
+
+    private FractionEngine() {
+    }
+
+    /**
+     * A fraction rounded to a fixed amount of digits.
+     */
+    static final class Rounded {
+        /**ASCII symbols, exactly as many as requested.*/
+        private final byte[] symbols;
+        /**Did rounding up overflow into the integer part (e.g. {@code 0.99 -> 1.0})?*/
+        final boolean carry;
+        /**Were no (non-zero) digits lost?*/
+        final boolean exact;
+
+        private Rounded(byte[] symbols, boolean carry, boolean exact) {
+            this.symbols = symbols;
+            this.carry = carry;
+            this.exact = exact;
+        }
+
+        int length() {
+            return symbols.length;
+        }
+
+        /**@return a read-only view of the symbols*/
+        ByteBuffer symbols() {
+            return ByteBuffer.wrap(symbols).asReadOnlyBuffer();
+        }
+
+        boolean isZero() {
+            for (byte symbol : symbols) if (symbol != '0') return false;
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return new String(symbols, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * Convert the digits of a fraction into another radix.
+     * @param values the value of every digit (most significant first), each within {@code [0, sourceRadix)}.
+     * @param from index of the first digit after the {@link AbstractNumber#DECIMAL_SPLIT}, inclusive.
+     * @param to index of the last digit, exclusive.
+     * @param digits the amount of digits wanted in {@code targetRadix}.
+     * @return the fraction rounded half up to exactly {@code digits} digits.
+     */
+    static Rounded round(byte[] values, int from, int to, int sourceRadix, int targetRadix, int digits) {
+        return round(values, from, to, sourceRadix, targetRadix, null, digits);
+    }
+
+    /**
+     * Same as {@link #round(byte[], int, int, int, int, int)}, given {@code scale = targetRadix^digits} if known
+     * already ({@code null} otherwise).
+     */
+    static Rounded round(byte[] values, int from, int to, int sourceRadix, int targetRadix, BigInteger scale,
+                         int digits) {
+        if (sourceRadix == targetRadix) return roundDigits(values, from, to, sourceRadix, digits);
+        if (RadixEngine.isPowerOfTwo(sourceRadix) && RadixEngine.isPowerOfTwo(targetRadix))
+            return repack(values, from, to, sourceRadix, targetRadix, digits);
+        if (to == from) return zero(digits);
+
+        BigInteger numerator = RadixEngine.parse(values, from, to, sourceRadix);
+        return round(numerator, BigInteger.valueOf(sourceRadix).pow(to - from), targetRadix,
+                scale == null ? BigInteger.valueOf(targetRadix).pow(digits) : scale, digits);
+    }
+
+    /**
+     * Convert the fraction {@code numerator / denominator} (within {@code [0, 1)}) into {@code radix}.
+     * @return the fraction rounded half up to exactly {@code digits} digits.
+     */
+    static Rounded round(BigInteger numerator, BigInteger denominator, int radix, int digits) {
+        return round(numerator, denominator, radix, BigInteger.valueOf(radix).pow(digits), digits);
+    }
+
+    private static Rounded round(BigInteger numerator, BigInteger denominator, int radix, BigInteger scale,
+                                 int digits) {
+        BigInteger[] qr = numerator.multiply(scale).divideAndRemainder(denominator);
+
+        BigInteger quotient = qr[0];
+        if (qr[1].shiftLeft(1).compareTo(denominator) >= 0) quotient = quotient.add(BigInteger.ONE);
+        boolean carry = quotient.equals(scale);
+        if (carry) quotient = BigInteger.ZERO;
+
+        return new Rounded(RadixEngine.format(quotient, radix, digits), carry, qr[1].signum() == 0);
+    }
+
+    /**
+     * @throws IllegalArgumentException {@code precision}, an amount of digits after the point, is negative or above
+     *         {@link #MAX_PRECISION}.
+     */
+    static void requireValidPrecision(int precision) throws IllegalArgumentException {
+        if (precision < 0)
+            throw new IllegalArgumentException(String.format("Invalid precision %d: expected 0 or more", precision));
+        if (precision > MAX_PRECISION)
+            throw new IllegalArgumentException(String.format("Invalid precision %d: expected at most %d", precision,
+                    MAX_PRECISION));
+    }
+
+    /**@return {@code digits} zeroes, as an exact fraction*/
+    static Rounded zero(int digits) {
+        return new Rounded(symbols(new byte[digits]), false, true);
+    }
+
+    /**
+     * The numerical value of the digits of a fraction. It is exact whenever {@code radix} only has 2 and 5 as
+     * prime factors (2, 4, 5, 8, 10, 16, 20, 25, 32, 40, 50, 64); otherwise it is rounded half up to at least
+     * as many decimal places as the digits carry, and never less than {@value #MIN_SCALE}.
+     */
+    static BigDecimal toDecimal(byte[] values, int from, int to, int radix) {
+        int n = to - from;
+        if (n == 0) return BigDecimal.ZERO;
+        return toDecimal(RadixEngine.parse(values, from, to, radix), n, radix);
+    }
+
+    /**@return can every fraction of {@code radix} be written exactly in Base 10 (see {@link #toDecimal})?*/
+    static boolean isExactInDecimal(int radix) {
+        int rest = radix >>> Integer.numberOfTrailingZeros(radix);
+        while (rest % 5 == 0) rest /= 5;
+        return rest == 1;
+    }
+
+    /**{@link #toDecimal(byte[], int, int, int)} of the {@code n} digit fraction {@code numerator / radix^n}*/
+    static BigDecimal toDecimal(BigInteger numerator, int n, int radix) {
+        if (n == 0) return new BigDecimal(numerator);
+        int twos = Integer.numberOfTrailingZeros(radix);
+        int fives = 0;
+        int rest = radix >>> twos;
+        while (rest % 5 == 0) {
+            rest /= 5;
+            fives++;
+        }
+
+        if (rest == 1) { // 1 / radix^n == 2^(k - twos*n) * 5^(k - fives*n) / 10^k
+            int k = n * Math.max(twos, fives);
+            BigInteger factor = FIVE.pow(k - fives * n).shiftLeft(k - twos * n);
+            return new BigDecimal(numerator.multiply(factor), k);
+        }
+
+        int scale = Math.max(MIN_SCALE, (int) Math.ceil(n * Math.log10(radix)) + 1);
+        return new BigDecimal(numerator).divide(new BigDecimal(BigInteger.valueOf(radix).pow(n)), scale,
+                RoundingMode.HALF_UP);
+    }
+
+    /**Keep the first {@code digits} digits as they are, rounding on the ones dropped.*/
+    private static Rounded roundDigits(byte[] values, int from, int to, int radix, int digits) {
+        byte[] out = new byte[digits];
+        int kept = Math.min(digits, to - from);
+        System.arraycopy(values, from, out, 0, kept);
+        if (from + kept == to) return new Rounded(symbols(out), false, true);
+
+        // In even radices, a dropped tail is at least one half when its first digit is; in odd ones, one half is
+        // 0.kkk... (k = radix / 2) forever, so the first digit differing from k decides.
+        int half = radix / 2;
+        boolean up;
+        boolean exact = true;
+        int i = from + kept;
+        if (radix % 2 == 0) {
+            up = values[i] >= half;
+        } else {
+            while (i < to && values[i] == half) i++;
+            up = i < to && values[i] > half;
+        }
+        for (i = from + kept; i < to && exact; i++) exact = values[i] == 0;
+
+        boolean carry = up && increment(out, radix);
+        return new Rounded(symbols(out), carry, exact);
+    }
+
+    /**Regroup bits from the most significant digit on; the first bit dropped decides the rounding.*/
+    private static Rounded repack(byte[] values, int from, int to, int sourceRadix, int targetRadix, int digits) {
+        int sourceBits = Integer.numberOfTrailingZeros(sourceRadix);
+        int targetBits = Integer.numberOfTrailingZeros(targetRadix);
+        int mask = targetRadix - 1;
+        byte[] out = new byte[digits];
+
+        long buffer = 0;
+        int bits = 0;
+        int o = 0;
+        int i = from;
+        for (; i < to && o < digits; i++) {
+            buffer = (buffer << sourceBits) | values[i];
+            bits += sourceBits;
+            while (bits >= targetBits && o < digits) {
+                bits -= targetBits;
+                out[o++] = (byte) ((buffer >>> bits) & mask);
+            }
+            buffer &= (1L << bits) - 1;
+        }
+        if (o < digits) {
+            if (bits > 0) out[o] = (byte) ((buffer << (targetBits - bits)) & mask);
+            return new Rounded(symbols(out), false, true);
+        }
+
+        // every digit is out: whatever remains in the buffer, then values[i, to), was dropped
+        boolean up = bits > 0 ? (buffer >>> (bits - 1)) != 0 : i < to && values[i] >= sourceRadix / 2;
+        boolean exact = buffer == 0;
+        for (; i < to && exact; i++) exact = values[i] == 0;
+
+        boolean carry = up && increment(out, targetRadix);
+        return new Rounded(symbols(out), carry, exact);
+    }
+
+    /**Turn digit values into their symbols, in place.*/
+    private static byte[] symbols(byte[] values) {
+        for (int i = 0; i < values.length; i++) values[i] = DigitCodec.SYMBOLS[values[i]];
+        return values;
+    }
+
+    /**
+     * Add one unit in the last place.
+     * @return whether it overflowed (every digit is zero again)
+     */
+    private static boolean increment(byte[] values, int radix) {
+        for (int i = values.length - 1; i >= 0; i--) {
+            if (++values[i] < radix) return false;
+            values[i] = 0;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,300 @@
+package converter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+public class Main {
+    private static final java.util.Scanner scanner = new java.util.Scanner(System.in).useLocale(java.util.Locale.US);
+
+    private static final String USAGE = "Usage: [--metrics] (--from {source base} --to {target base} " +
+            "([--precision {digits}] [file] | --input {file} --output {file}) | --serve {port})";
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**Lines converted in parallel before their results are written out.*/
+    private static final int BLOCK_SIZE = 1 << 14;
+    /**Requests {@link ConversionServer} converts at once, see {@code -Dconverter.maxInFlight}*/
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("converter.maxInFlight", 256);
+
+    /**Opt-in cache of the interactive conversions, sized by {@code -Dconverter.cache=N}; {@code null} if disabled.*/
+    private static final ConversionCache cache = Integer.getInteger("converter.cache", 0) > 0
+            ? new ConversionCache(Integer.getInteger("converter.cache")) : null;
+
+    /**Print the {@link ConversionMetrics} (also available through JMX while running) on stderr at the end?*/
+    private static boolean metrics = false;
+
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--metrics")) {
+            metrics = true;
+            ConversionMetrics.get().setEnabled(true);
+            ConversionMetrics.register();
+            args = java.util.Arrays.copyOfRange(args, 1, args.length);
+        }
+        if (args.length == 0) {
+            menu();
+        } else if (args[0].equals("--serve")) {
+            serve(args);
+        } else {
+            batch(args);
+        }
+    }
+
+    /**
+     * Non-interactive mode: converts every line of {@code file} (or stdin) and writes one result per line to stdout.
+     * Lines that cannot be converted are reported on stderr and leave an empty line behind, so the output stays
+     * aligned with the input. A summary including the throughput (lines/s) is printed on stderr at the end.
+     */
+    private static void batch(String[] args) {
+        int sourceBase = -1;
+        int targetBase = -1;
+        int precision = 5;
+        String file = null;
+        String input = null;
+        String output = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--from":
+                        sourceBase = Integer.parseInt(args[++i]);
+                        break;
+                    case "--to":
+                        targetBase = Integer.parseInt(args[++i]);
+                        break;
+                    case "--precision":
+                        precision = Integer.parseInt(args[++i]);
+                        break;
+                    case "--input":
+                        input = args[++i];
+                        break;
+                    case "--output":
+                        output = args[++i];
+                        break;
+                    default:
+                        if (args[i].startsWith("--") || file != null) throw new IllegalArgumentException(args[i]);
+                        file = args[i];
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException exception) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        if (AbstractNumber.areInvalidBounds(sourceBase, targetBase) != 0 || precision < 0
+                || precision > FractionEngine.MAX_PRECISION) {
+            System.err.printf("Invalid radix or precision! (%d, %d, %d)%n%s%n", sourceBase, targetBase, precision, USAGE);
+            System.exit(2);
+        }
+
+        if (input != null || output != null) {
+            convertFile(input, output, sourceBase, targetBase);
+            return;
+        }
+
+        long lines = 0;
+        long errors = 0;
+        long start = System.nanoTime();
+
+        // the descriptors belong to the process: the writers are flushed, never closed
+        Writer out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(FileDescriptor.out), StandardCharsets.ISO_8859_1), BUFFER_SIZE);
+        Writer err = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(FileDescriptor.err), StandardCharsets.ISO_8859_1), BUFFER_SIZE);
+        try (BufferedReader reader = file == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.ISO_8859_1), BUFFER_SIZE)
+                : Files.newBufferedReader(Paths.get(file), StandardCharsets.ISO_8859_1)) {
+
+            BulkConverter converter = new BulkConverter(sourceBase, targetBase, precision);
+            java.util.List<String> block = new java.util.ArrayList<>(BLOCK_SIZE);
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                block.add(line);
+                if (block.size() == BLOCK_SIZE || !reader.ready()) {
+                    errors += write(converter.convert(block), lines, out, err);
+                    lines += block.size();
+                    block.clear();
+                }
+            }
+            errors += write(converter.convert(block), lines, out, err);
+            lines += block.size();
+
+            double seconds = (System.nanoTime() - start) / 1e9;
+            err.write(String.format("Converted %d lines (%d errors) in %.3f s: %.0f lines/s%n",
+                    lines, errors, seconds, lines / Math.max(seconds, 1e-9)));
+            if (metrics) err.write(ConversionMetrics.get().snapshot() + System.lineSeparator());
+        } catch (IOException exception) {
+            flush(out, err);
+            System.err.println("I/O error: " + exception.getMessage());
+            System.exit(1);
+        } finally {
+            flush(out, err);
+        }
+    }
+
+    /**Server mode: answers conversion requests over TCP until killed, see {@link ConversionServer}.*/
+    private static void serve(String[] args) {
+        int port = -1;
+        try {
+            if (args.length == 2) port = Integer.parseInt(args[1]);
+        } catch (NumberFormatException ignored) {
+        }
+        if (port < 0 || port > 0xFFFF) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        try (ConversionServer server = new ConversionServer(port, MAX_IN_FLIGHT)) {
+            System.err.printf("Listening on port %d (%s threads)%n", server.getPort(),
+                    server.isVirtual() ? "virtual" : "platform");
+            server.run();
+        } catch (IOException exception) {
+            System.err.println("I/O error: " + exception.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**Converts a single (huge) integer from one file into another, see {@link FileConversion}.*/
+    private static void convertFile(String input, String output, int sourceBase, int targetBase) {
+        if (input == null || output == null) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        try {
+            System.err.println(FileConversion.convert(Paths.get(input), Paths.get(output), sourceBase, targetBase));
+            if (metrics) System.err.println(ConversionMetrics.get().snapshot());
+        } catch (IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.exit(1);
+        } catch (IOException exception) {
+            System.err.println("I/O error: " + exception.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**Flushes the standard stream writers, which must stay open for the rest of the process.*/
+    private static void flush(Writer out, Writer err) {
+        try {
+            out.flush();
+        } catch (IOException ignored) {
+            // stdout is gone (e.g. a closed pipe): nothing left to report it to but stderr, flushed below
+        }
+        try {
+            err.flush();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**Writes a block of results (blank lines stay blank), reporting failures on {@code err}; returns the failures.*/
+    private static int write(java.util.List<BulkConverter.Result> results, long firstLine, Writer out, Writer err)
+            throws IOException {
+        int errors = 0;
+        for (int i = 0; i < results.size(); i++) {
+            BulkConverter.Result result = results.get(i);
+            if (result.getInput().trim().isEmpty()) {
+                // blank, whatever its whitespace: echo it as a blank line, never as a conversion or an error
+            } else if (result.isSuccess()) {
+                out.write(result.getOutput());
+            } else {
+                errors++;
+                err.write("line " + (firstLine + i + 1) + ": " + result.getError().getMessage() + System.lineSeparator());
+            }
+            out.write('\n');
+        }
+        return errors;
+    }
+
+    private static void menu() {
+        String[] userInput = prompt();
+
+        if (!Main.matches(userInput, "\\d++")) {
+            System.out.println("\nPlease enter numbers!\n");
+            menu();
+            return;
+        }
+
+        if (userInput.length != 2) {
+            System.out.println("\nPlease enter two parameters!\n");
+            menu();
+            return;
+        }
+
+        int sourceBase = Integer.parseInt(userInput[0]);
+        int targetBase = Integer.parseInt(userInput[1]);
+
+        if (AbstractNumber.areInvalidBounds(sourceBase, targetBase) > 0) {
+            System.out.printf("This converter only supports up to Base64! (Your input: %d)\n\n",
+                    AbstractNumber.getInvalidBound(sourceBase, targetBase));
+            menu();
+            return;
+        } else if (AbstractNumber.areInvalidBounds(sourceBase, targetBase) < 0) {
+            System.out.printf("Invalid radix %d: One cannot form a number out of anything less than Base 2\n\n",
+                    AbstractNumber.getInvalidBound(sourceBase, targetBase));
+            menu();
+            return;
+        }
+
+        Converter converter = Converter.of(sourceBase, targetBase, 5);
+        for (int i = 0; i < 1e6; i++) {
+            System.out.printf("%nEnter number in base %d to convert to base %d (To go back type /back) ",
+                    sourceBase, targetBase);
+            String numInput = scanner.next();
+
+            if (!numInput.matches("\\d++") && numInput.replaceAll("\\s++", "").equalsIgnoreCase("/back")) {
+                scanner.nextLine();
+                System.out.println("...\n..\n.\n");
+                menu();
+                return;
+            }
+
+            try {
+                String result = cache != null
+                        ? cache.convert(numInput, sourceBase, targetBase, 5)
+                        : converter.convert(numInput);
+                System.out.printf("Conversion result: %s%n%n%n", result);
+            } catch (IllegalArgumentException | IllegalStateException exception) {
+                System.out.println(exception.getMessage());
+            }
+        }
+        System.out.println("This is enough!");
+        System.exit(1);
+    }
+
+    /**Asks the user for input.*/
+    private static String[] prompt() {
+        System.out.print("Enter two numbers in format: {source base} {target base} (To quit type /exit) ");
+        String[] input = scanner.nextLine().split("\\s++");
+        if (input.length > 0 && input[0].replaceAll("\\s++", "").equalsIgnoreCase("/exit")) {
+            if (cache != null) System.out.println(cache);
+            if (metrics) System.err.println(ConversionMetrics.get().snapshot());
+            System.exit(0);
+        }
+
+        if (!(input.length >= 1 && input.length <= 2)) {
+            System.out.printf("Wrong input! Found: \"%s\"\n\nPlease try again!\n", buildString(input));
+            return prompt();
+        } else {
+            return input;
+        }
+    }
+
+    private static String buildString(String... strings) {
+        String str = "";
+        java.util.Arrays.stream(strings).forEach(n -> append(str, n, " "));
+        return str;
+    }
+
+    private static void append(String base, String... strings) {
+        for (String s : strings) base = base.concat(s);
+    }
+
+    /**O(n^2)*/
+    @SafeVarargs
+    private static <T extends String, K extends String>boolean matches(T[] array, K... patterns) {
+        for (T element : array) {
+            for (K pattern : patterns) {
+                if (element.matches(pattern)) return true;
+            }
+        }
+        return false;
+    }
+}
+
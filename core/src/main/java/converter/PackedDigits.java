@@ -0,0 +1,94 @@
+package converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The digits of a number packed at 6 bits per digit (enough for any radix up to 64), i.e. 3 bytes for every
+ * 4 digits instead of the 2 bytes per digit of a {@link String}.
+ * <p>
+ * The bits live in a heap or a direct (off-heap) {@link ByteBuffer}. Instances are immutable and can be shared
+ * between any amount of {@link AbstractNumber}s.
+ */
+final class PackedDigits {
+    private static final int BITS = 6;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private final ByteBuffer data;
+    private final int length;
+    private final int point;
+    private final boolean separated;
+    private final boolean negative;
+
+    private PackedDigits(ByteBuffer data, int length, int point, boolean separated, boolean negative) {
+        this.data = data;
+        this.length = length;
+        this.point = point;
+        this.separated = separated;
+        this.negative = negative;
+    }
+
+    /**
+     * @param signed keep the sign of {@code digits} (spelled out by {@link #toString()}).
+     * @param direct store the bits off-heap.
+     */
+    static PackedDigits pack(DigitCodec.Digits digits, boolean signed, boolean direct) {
+        byte[] values = digits.values;
+        int size = (int) (((long) values.length * BITS + 7) / 8);
+        ByteBuffer data = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+
+        int buffer = 0;
+        int bits = 0;
+        int o = 0;
+        for (byte value : values) {
+            buffer = (buffer << BITS) | value;
+            bits += BITS;
+            if (bits >= 8) {
+                bits -= 8;
+                data.put(o++, (byte) (buffer >>> bits));
+                buffer &= (1 << bits) - 1;
+            }
+        }
+        if (bits > 0) data.put(o, (byte) (buffer << (8 - bits)));
+
+        return new PackedDigits(data, values.length, digits.point, digits.separated, signed && digits.negative);
+    }
+
+    /**@return every digit, unpacked again*/
+    DigitCodec.Digits unpack() {
+        byte[] values = new byte[length];
+        int buffer = 0;
+        int bits = 0;
+        int i = 0;
+        for (int d = 0; d < length; d++) {
+            if (bits < BITS) {
+                buffer = (buffer << 8) | (data.get(i++) & 0xFF);
+                bits += 8;
+            }
+            bits -= BITS;
+            values[d] = (byte) ((buffer >>> bits) & MASK);
+            buffer &= (1 << bits) - 1;
+        }
+        return new DigitCodec.Digits(negative, values, point, separated);
+    }
+
+    /**@return the amount of digits*/
+    int length() {
+        return length;
+    }
+
+    /**@return the bytes taken by the packed bits*/
+    int size() {
+        return data.capacity();
+    }
+
+    boolean isDirect() {
+        return data.isDirect();
+    }
+
+    /**@return the digits as symbols, e.g. {@code "A.8"}, preceded by {@code '-'} if packed signed and negative*/
+    @Override
+    public String toString() {
+        String digits = unpack().toString();
+        return negative ? "-" + digits : digits;
+    }
+}
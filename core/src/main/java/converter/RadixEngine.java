@@ -0,0 +1,375 @@
+package converter;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Divide-and-conquer engine behind the integer conversions of {@link AbstractNumber}.
+ * <p>
+ * Rather than peeling off one digit per division, a value is split in half by a precomputed
+ * power {@code radix^(2^k)} and both halves are formatted independently, so the cost of a conversion
+ * follows the cost of {@link BigInteger} multiplication/division instead of growing with the square of
+ * the digit count.
+ * <p>
+ * Both halves are independent, so numbers of at least {@link #PARALLEL_THRESHOLD} digits have them converted
+ * concurrently on a {@link ForkJoinPool} of {@link #getParallelism()} threads; anything smaller, or everything
+ * when the parallelism is 1, runs on the calling thread.
+ */
+final class RadixEngine {
+    private static final byte[] SYMBOLS = DigitCodec.SYMBOLS;
+
+    /**{@code POWERS[radix][k] = radix^(2^k)}, grown on demand.*/
+    private static final BigInteger[][] POWERS = new BigInteger[SYMBOLS.length + 1][];
+
+    /**The most digits of a radix that always fit in a (positive) {@code long}, and that radix to this power.*/
+    private static final int[] CHUNK_DIGITS = new int[SYMBOLS.length + 1];
+    private static final long[] CHUNK_POWERS = new long[SYMBOLS.length + 1];
+
+    /**Chunks gathered into a single {@link BigInteger} one after the other before splitting kicks in.*/
+    private static final int LEAF_CHUNKS = 16;
+
+    /**Digits from which the halves of a split are converted in parallel, see {@code -Dconverter.parallelThreshold}*/
+    static final int PARALLEL_THRESHOLD = Integer.getInteger("converter.parallelThreshold", 1 << 15);
+
+    /**Runs the parallel splits; {@code null} to stay on the calling thread. See {@code -Dconverter.parallelism}*/
+    private static volatile ForkJoinPool pool = newPool(Integer.getInteger("converter.parallelism",
+            Runtime.getRuntime().availableProcessors()));
+
+    static {
+        for (int radix = 2; radix <= SYMBOLS.length; radix++) {
+            long power = 1;
+            int digits = 0;
+            while (power <= Long.MAX_VALUE / radix) {
+                power *= radix;
+                digits++;
+            }
+            CHUNK_DIGITS[radix] = digits;
+            CHUNK_POWERS[radix] = power;
+        }
+    }
+
+    private RadixEngine() {
+    }
+
+    /**
+     * Format a non-negative integer in the given radix, most significant digit first.
+     * @param value the integer to be formatted; must not be negative.
+     * @param radix the target radix (2 - 64).
+     * @return the digits of {@code value}, without leading zeroes ({@code "0"} for zero).
+     */
+    static String format(BigInteger value, int radix) {
+        ByteBuffer ascii = formatAscii(value, radix);
+        return new String(ascii.array(), ascii.position(), ascii.remaining(), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Same as {@link #format(BigInteger, int)}, without copying the symbols into a {@link String}.
+     * @return the ASCII symbols between the position and the limit of a heap buffer.
+     */
+    static ByteBuffer formatAscii(BigInteger value, int radix) {
+        if (value.signum() == 0) return ByteBuffer.wrap(new byte[]{'0'});
+
+        int digits = estimateDigits(value, radix);
+        byte[] out = new byte[digits];
+        BigInteger[] powers = powerTable(radix, digits);
+        ForkJoinPool pool = RadixEngine.pool;
+        if (pool != null && digits >= PARALLEL_THRESHOLD)
+            pool.invoke(new FormatTask(value, radix, powers, out, digits, digits));
+        else format(value, radix, powers, out, digits, digits);
+
+        int start = 0;
+        while (start < digits - 1 && out[start] == '0') start++;
+        return ByteBuffer.wrap(out, start, digits - start);
+    }
+
+    /**
+     * Format a non-negative integer into exactly {@code digits} symbols, padded with leading zeroes.
+     * {@code value} must be smaller than {@code radix^digits}.
+     */
+    static byte[] format(BigInteger value, int radix, int digits) {
+        byte[] out = new byte[digits];
+        if (digits > 0) format(value, radix, powerTable(radix, digits), out, digits, digits);
+        return out;
+    }
+
+    /**
+     * Format any {@code long} in the given radix with primitive arithmetic only.
+     * @return the digits of {@code value}, preceded by {@code '-'} if it is negative.
+     */
+    static String format(long value, int radix) {
+        byte[] out = new byte[Long.SIZE + 1];
+        int i = out.length;
+        long l = value < 0 ? value : -value; // stay negative so that Long.MIN_VALUE fits
+        do {
+            out[--i] = SYMBOLS[(int) -(l % radix)];
+            l /= radix;
+        } while (l != 0);
+        if (value < 0) out[--i] = '-';
+        return new String(out, i, out.length - i, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Same as {@link #format(long, int)}, written into {@code out} from its position on.
+     * @return the amount of bytes written
+     * @throws BufferOverflowException {@code out} has too little room left; nothing was written then.
+     */
+    static int format(long value, int radix, ByteBuffer out) throws BufferOverflowException {
+        int length = value < 0 ? 2 : 1;
+        for (long l = value / radix; l != 0; l /= radix) length++;
+        if (out.remaining() < length) throw new BufferOverflowException();
+
+        int end = out.position() + length;
+        int i = end;
+        long l = value < 0 ? value : -value;
+        do {
+            out.put(--i, SYMBOLS[(int) -(l % radix)]);
+            l /= radix;
+        } while (l != 0);
+        if (value < 0) out.put(--i, (byte) '-');
+        out.position(end);
+        return length;
+    }
+
+    /**
+     * Writes exactly {@code digits} symbols (zero padded) ending right before {@code end}.
+     * {@code value} must be smaller than {@code radix^digits}.
+     */
+    private static void format(BigInteger value, int radix, BigInteger[] powers, byte[] out, int end, int digits) {
+        if (value.bitLength() < Long.SIZE) {
+            long l = value.longValue();
+            int i = end;
+            while (l != 0) {
+                out[--i] = SYMBOLS[(int) (l % radix)];
+                l /= radix;
+            }
+            while (i > end - digits) out[--i] = '0';
+            return;
+        }
+
+        int k = 31 - Integer.numberOfLeadingZeros(digits - 1);
+        int half = 1 << k;
+        BigInteger[] qr = value.divideAndRemainder(powers[k]);
+        format(qr[1], radix, powers, out, end, half);
+        format(qr[0], radix, powers, out, end - half, digits - half);
+    }
+
+    /**
+     * Parse digit values (not symbols) into a non-negative integer, most significant digit first.
+     * @param values the value of every digit, each within {@code [0, radix)}.
+     * @param from index of the first (most significant) digit, inclusive.
+     * @param to index of the last digit, exclusive.
+     * @param radix the radix the digits are written in (2 - 64).
+     * @return the exact integer spelled out by {@code values[from, to)}.
+     */
+    static BigInteger parse(byte[] values, int from, int to, int radix) {
+        if (to <= from) return BigInteger.ZERO;
+        BigInteger[] powers = powerTable(radix, to - from);
+        ForkJoinPool pool = RadixEngine.pool;
+        if (pool != null && to - from >= PARALLEL_THRESHOLD)
+            return pool.invoke(new ParseTask(values, from, to, radix, powers));
+        return parse(values, from, to, radix, powers);
+    }
+
+    private static BigInteger parse(byte[] values, int from, int to, int radix, BigInteger[] powers) {
+        int digits = to - from;
+        if (digits <= LEAF_CHUNKS * CHUNK_DIGITS[radix]) return parseLeaf(values, from, to, radix);
+
+        int k = 31 - Integer.numberOfLeadingZeros(digits - 1);
+        int half = 1 << k;
+        BigInteger high = parse(values, from, to - half, radix, powers);
+        BigInteger low = parse(values, to - half, to, radix, powers);
+        return high.multiply(powers[k]).add(low);
+    }
+
+    /**{@link #format(BigInteger, int, BigInteger[], byte[], int, int)}, writing both halves in parallel.*/
+    private static final class FormatTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BigInteger value;
+        private final int radix;
+        private final BigInteger[] powers;
+        private final byte[] out;
+        private final int end;
+        private final int digits;
+
+        FormatTask(BigInteger value, int radix, BigInteger[] powers, byte[] out, int end, int digits) {
+            this.value = value;
+            this.radix = radix;
+            this.powers = powers;
+            this.out = out;
+            this.end = end;
+            this.digits = digits;
+        }
+
+        @Override
+        protected void compute() {
+            if (digits < PARALLEL_THRESHOLD || value.bitLength() < Long.SIZE) {
+                format(value, radix, powers, out, end, digits);
+                return;
+            }
+
+            int k = 31 - Integer.numberOfLeadingZeros(digits - 1);
+            int half = 1 << k;
+            BigInteger[] qr = value.divideAndRemainder(powers[k]);
+            invokeAll(new FormatTask(qr[1], radix, powers, out, end, half),
+                    new FormatTask(qr[0], radix, powers, out, end - half, digits - half));
+        }
+    }
+
+    /**{@link #parse(byte[], int, int, int, BigInteger[])}, parsing both halves in parallel.*/
+    private static final class ParseTask extends RecursiveTask<BigInteger> {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] values;
+        private final int from;
+        private final int to;
+        private final int radix;
+        private final BigInteger[] powers;
+
+        ParseTask(byte[] values, int from, int to, int radix, BigInteger[] powers) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.radix = radix;
+            this.powers = powers;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            int digits = to - from;
+            if (digits < PARALLEL_THRESHOLD) return parse(values, from, to, radix, powers);
+
+            int k = 31 - Integer.numberOfLeadingZeros(digits - 1);
+            int half = 1 << k;
+            ParseTask high = new ParseTask(values, from, to - half, radix, powers);
+            high.fork();
+            BigInteger low = new ParseTask(values, to - half, to, radix, powers).compute();
+            return high.join().multiply(powers[k]).add(low);
+        }
+    }
+
+    /**Accumulates as many digits as fit into a {@code long} at a time and folds the chunks together.*/
+    private static BigInteger parseLeaf(byte[] values, int from, int to, int radix) {
+        int chunk = CHUNK_DIGITS[radix];
+        int i = from;
+        int first = (to - from) % chunk == 0 ? chunk : (to - from) % chunk;
+
+        long l = 0;
+        for (int end = from + first; i < end; i++) l = l * radix + values[i];
+        BigInteger res = BigInteger.valueOf(l);
+
+        BigInteger power = BigInteger.valueOf(CHUNK_POWERS[radix]);
+        while (i < to) {
+            l = 0;
+            for (int end = i + chunk; i < end; i++) l = l * radix + values[i];
+            res = res.multiply(power).add(BigInteger.valueOf(l));
+        }
+        return res;
+    }
+
+    /**
+     * Regroup the bits of an integer written in one power-of-two radix into another power-of-two radix,
+     * in a single pass from the least significant digit.
+     * @param values the value of every digit (most significant first), each within {@code [0, sourceRadix)}.
+     * @param from index of the first digit, inclusive.
+     * @param to index of the last digit, exclusive.
+     * @return the digits in {@code targetRadix}, without leading zeroes ({@code "0"} for zero).
+     */
+    static String repackInteger(byte[] values, int from, int to, int sourceRadix, int targetRadix) {
+        ByteBuffer ascii = repackIntegerAscii(values, from, to, sourceRadix, targetRadix);
+        return new String(ascii.array(), ascii.position(), ascii.remaining(), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Same as {@link #repackInteger(byte[], int, int, int, int)}, without copying the symbols into a {@link String}.
+     * @return the ASCII symbols between the position and the limit of a heap buffer.
+     */
+    static ByteBuffer repackIntegerAscii(byte[] values, int from, int to, int sourceRadix, int targetRadix) {
+        while (from < to && values[from] == 0) from++;
+        if (from == to) return ByteBuffer.wrap(new byte[]{'0'});
+
+        int sourceBits = Integer.numberOfTrailingZeros(sourceRadix);
+        int targetBits = Integer.numberOfTrailingZeros(targetRadix);
+        int mask = targetRadix - 1;
+        int digits = ((to - from) * sourceBits + targetBits - 1) / targetBits;
+        byte[] out = new byte[digits];
+
+        long buffer = 0;
+        int bits = 0;
+        int o = digits;
+        for (int i = to - 1; i >= from; i--) {
+            buffer |= (long) values[i] << bits;
+            bits += sourceBits;
+            while (bits >= targetBits) {
+                out[--o] = SYMBOLS[(int) (buffer & mask)];
+                buffer >>>= targetBits;
+                bits -= targetBits;
+            }
+        }
+        if (bits > 0) out[--o] = SYMBOLS[(int) buffer];
+
+        int start = 0;
+        while (out[start] == '0') start++;
+        return ByteBuffer.wrap(out, start, digits - start);
+    }
+
+    /**
+     * Set how many threads may work on the halves of a single large conversion.
+     * @param parallelism 1 to always convert on the calling thread.
+     * @throws IllegalArgumentException {@code parallelism} is not positive.
+     */
+    static void setParallelism(int parallelism) throws IllegalArgumentException {
+        if (parallelism < 1)
+            throw new IllegalArgumentException(String.format("Invalid parallelism %d: expected 1 or more", parallelism));
+        // the previous pool is never shut down: conversions that read it already still invoke their tasks there, and
+        // its (daemon) workers end by themselves once it stays idle
+        pool = newPool(parallelism);
+    }
+
+    /**@return how many threads may work on a single large conversion*/
+    static int getParallelism() {
+        ForkJoinPool pool = RadixEngine.pool;
+        return pool == null ? 1 : pool.getParallelism();
+    }
+
+    private static ForkJoinPool newPool(int parallelism) {
+        return parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    /**@return the most digits in the given radix that are guaranteed to fit in a {@code long}*/
+    static int longDigits(int radix) {
+        return CHUNK_DIGITS[radix];
+    }
+
+    static boolean isPowerOfTwo(int radix) {
+        return (radix & (radix - 1)) == 0;
+    }
+
+    /**An upper bound (off by at most two) of the amount of digits needed for {@code value}.*/
+    private static int estimateDigits(BigInteger value, int radix) {
+        return (int) (value.bitLength() / (Math.log(radix) / Math.log(2))) + 2;
+    }
+
+    /**
+     * Get every power {@code radix^(2^k)} needed to split a number of {@code digits} digits.
+     * The table is shared between threads and only ever grows.
+     */
+    static synchronized BigInteger[] powerTable(int radix, int digits) {
+        int needed = Math.max(1, 32 - Integer.numberOfLeadingZeros(digits - 1));
+        BigInteger[] table = POWERS[radix];
+        if (table != null && table.length >= needed) return table;
+
+        BigInteger[] grown = new BigInteger[needed];
+        int known = table == null ? 0 : table.length;
+        if (known > 0) System.arraycopy(table, 0, grown, 0, known);
+        for (int k = known; k < needed; k++)
+            grown[k] = k == 0 ? BigInteger.valueOf(radix) : grown[k - 1].multiply(grown[k - 1]);
+
+        return POWERS[radix] = grown;
+    }
+}
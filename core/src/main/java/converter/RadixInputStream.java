@@ -0,0 +1,160 @@
+package converter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * Decodes the text written by {@link RadixOutputStream} back into the original bytes, as they are read.
+ * <p>
+ * Symbols are read from the underlying stream a block of fixed size at a time, so memory stays constant whatever the
+ * amount of data. Whitespace between symbols is skipped (the text may be wrapped into lines), letters are case
+ * insensitive up to radix 32, and the zero bits padding the last symbol are dropped.
+ */
+final class RadixInputStream extends FilterInputStream {
+    /**Symbols read from the underlying stream at once.*/
+    static final int BLOCK_SIZE = 1 << 13;
+    private static final byte INVALID = -1;
+    private static final byte WHITESPACE = -2;
+
+    private final int radix;
+    private final int bits;
+    /**{@code values[byte]} is the value of a symbol in {@link #radix}, {@link #INVALID} or {@link #WHITESPACE}.*/
+    private final byte[] values = new byte[1 << Byte.SIZE];
+    private final byte[] block = new byte[BLOCK_SIZE];
+    private int position = 0;
+    private int limit = 0;
+
+    /**The last {@link #buffered} bits decoded, not read yet.*/
+    private int buffer = 0;
+    private int buffered = 0;
+    private boolean ended = false;
+    private final byte[] single = new byte[1];
+
+    /**
+     * @throws IllegalArgumentException {@code radix} out of bounds, or not a power of two.
+     */
+    RadixInputStream(InputStream in, int radix) throws IllegalArgumentException {
+        super(in);
+        this.radix = radix;
+        this.bits = bitsPerSymbol(radix);
+        for (int symbol = 0; symbol < values.length; symbol++) {
+            int value = DigitCodec.value(DigitCodec.fold((char) symbol, radix));
+            values[symbol] = Character.isWhitespace(symbol) ? WHITESPACE
+                    : value < 0 || value >= radix ? INVALID : (byte) value;
+        }
+    }
+
+    /**
+     * @return {@code log2(radix)}
+     * @throws IllegalArgumentException {@code radix} out of bounds, or not a power of two.
+     */
+    static int bitsPerSymbol(int radix) throws IllegalArgumentException {
+        DigitCodec.requireValidRadix(radix);
+        if (!RadixEngine.isPowerOfTwo(radix))
+            throw new IllegalArgumentException(String.format("Invalid radix %d: expected a power of two", radix));
+        return Integer.numberOfTrailingZeros(radix);
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    /**
+     * @throws IOException reading the underlying stream failed, or it holds a symbol that is not part of the
+     *                     alphabet or not within the radix.
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) return 0;
+
+        byte[] block = this.block;
+        byte[] values = this.values;
+        int bits = this.bits;
+        int n = 0;
+        int buffer = this.buffer;
+        int buffered = this.buffered; // always less than a byte in between calls
+        int position = this.position;
+        int limit = this.limit;
+        try {
+            while (n < len) {
+                if (position == limit) {
+                    if (n > 0) break; // never block once some bytes are decoded
+                    if (!fill()) break;
+                    position = this.position;
+                    limit = this.limit;
+                }
+
+                int symbol = block[position++] & 0xFF;
+                int value = values[symbol];
+                if (value < 0) {
+                    if (value == WHITESPACE) continue;
+                    throw new IOException(String.format("Error! '%c' is not a digit in radix %d", (char) symbol,
+                            radix));
+                }
+                buffer = (buffer << bits) | value;
+                buffered += bits;
+                if (buffered >= Byte.SIZE) {
+                    buffered -= Byte.SIZE;
+                    b[off + n++] = (byte) (buffer >>> buffered);
+                    buffer &= (1 << buffered) - 1;
+                }
+            }
+        } finally {
+            this.buffer = buffer;
+            this.buffered = buffered;
+            this.position = position;
+            this.limit = limit;
+        }
+        return n == 0 && ended ? -1 : n;
+    }
+
+    /**@return whether more symbols were read into {@link #block}*/
+    private boolean fill() throws IOException {
+        if (ended) return false;
+        int read = in.read(block, 0, BLOCK_SIZE);
+        if (read < 0) {
+            ended = true; // fewer than 8 bits left: the padding of the last symbol
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) return 0;
+        byte[] skipped = new byte[(int) Math.min(n, BLOCK_SIZE)];
+        long remaining = n;
+        while (remaining > 0) {
+            int read = read(skipped, 0, (int) Math.min(remaining, skipped.length));
+            if (read < 0) break;
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    /**@return the bytes that can be decoded without touching the underlying stream, if there is no whitespace*/
+    @Override
+    public int available() {
+        return (int) ((buffered + (long) (limit - position) * bits) / Byte.SIZE);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
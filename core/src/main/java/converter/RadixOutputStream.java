@@ -0,0 +1,125 @@
+package converter;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Encodes arbitrary bytes as text in a power-of-two radix (2, 4, 8, 16, 32 or 64) of the
+ * {@link AbstractNumber.Instance} alphabet, as they are written.
+ * <p>
+ * The bytes are read as a single stream of bits, most significant first, and every {@code log2(radix)} of them
+ * become one symbol; the last symbol is padded with zero bits. No padding symbols are needed:
+ * {@link RadixInputStream} knows the original length from the amount of symbols. Symbols are collected in a block
+ * of fixed size before being handed to the underlying stream, so memory stays constant whatever the amount of data.
+ * <p>
+ * Up to {@code log2(radix) - 1} bits are held back until the next byte or {@link #close()}; {@link #finish()} writes
+ * them out without closing the underlying stream.
+ */
+final class RadixOutputStream extends FilterOutputStream {
+    /**Symbols written to the underlying stream at once.*/
+    static final int BLOCK_SIZE = 1 << 13;
+
+    private final int bits;
+    private final int mask;
+    private final byte[] block = new byte[BLOCK_SIZE];
+    private int length = 0;
+
+    /**The last {@link #buffered} bits written, not encoded yet.*/
+    private int buffer = 0;
+    private int buffered = 0;
+    private boolean finished = false;
+    private final byte[] single = new byte[1];
+
+    /**
+     * @throws IllegalArgumentException {@code radix} out of bounds, or not a power of two.
+     */
+    RadixOutputStream(OutputStream out, int radix) throws IllegalArgumentException {
+        super(out);
+        this.bits = RadixInputStream.bitsPerSymbol(radix);
+        this.mask = radix - 1;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+
+        byte[] symbols = DigitCodec.SYMBOLS;
+        byte[] block = this.block;
+        int bits = this.bits;
+        int mask = this.mask;
+        int buffer = this.buffer;
+        int buffered = this.buffered;
+        int length = this.length;
+        try {
+            for (int i = off; i < off + len; i++) {
+                buffer = (buffer << Byte.SIZE) | (b[i] & 0xFF);
+                buffered += Byte.SIZE;
+                // a byte never makes more than 8 symbols
+                if (length > BLOCK_SIZE - Byte.SIZE) {
+                    this.length = length;
+                    drain();
+                    length = 0;
+                }
+                while (buffered >= bits) {
+                    buffered -= bits;
+                    block[length++] = symbols[(buffer >>> buffered) & mask];
+                }
+                buffer &= (1 << buffered) - 1;
+            }
+        } finally {
+            this.buffer = buffer;
+            this.buffered = buffered;
+            this.length = length;
+        }
+    }
+
+    private void drain() throws IOException {
+        out.write(block, 0, length);
+        length = 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) throw new IOException("Stream finished");
+    }
+
+    /**Hand every complete symbol to the underlying stream and flush it; bits held back stay so.*/
+    @Override
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    /**
+     * Write out the bits held back (padded with zero bits into one last symbol) and flush, leaving the underlying
+     * stream open; nothing can be written afterwards.
+     */
+    public void finish() throws IOException {
+        if (finished) return;
+        if (buffered > 0) {
+            if (length == BLOCK_SIZE) drain();
+            block[length++] = DigitCodec.SYMBOLS[(buffer << (bits - buffered)) & mask];
+            buffer = 0;
+            buffered = 0;
+        }
+        finished = true;
+        flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+}
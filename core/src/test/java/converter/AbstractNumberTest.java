@@ -0,0 +1,365 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AbstractNumberTest {
+    /**Radices whose digits {@link AbstractNumber#toNumber()} holds exactly.*/
+    private static final int[] EXACT_RADICES = {2, 4, 5, 10, 16, 20, 64};
+
+    private static String number(Random random, int radix) {
+        StringBuilder number = new StringBuilder(random.nextInt(3) == 0 ? "-" : "");
+        int length = 1 + random.nextInt(random.nextInt(50) == 0 ? 600 : 6);
+        for (int i = 0; i < length; i++)
+            number.append((char) DigitCodec.SYMBOLS[random.nextInt(random.nextBoolean() ? 2 : radix)]);
+        if (random.nextBoolean()) number.insert(number.length() - random.nextInt(length), AbstractNumber.DECIMAL_SPLIT);
+        if (random.nextInt(4) == 0) number.append("000");
+        return number.toString();
+    }
+
+    /**@return {@code {numerator, denominator}}, the exact value of {@code hex}*/
+    private static BigInteger[] exact(String hex, int radix) {
+        DigitCodec.Digits digits = DigitCodec.decode(hex, radix);
+        BigInteger numerator = RadixEngine.parse(digits.values, 0, digits.values.length, radix);
+        BigInteger denominator = BigInteger.valueOf(radix).pow(digits.values.length - digits.point);
+        return new BigInteger[]{digits.negative ? numerator.negate() : numerator, denominator};
+    }
+
+    @Test
+    void compareEqualsAndHashAgreeWithTheExactValue() {
+        Random random = new Random(7);
+        List<AbstractNumber> numbers = new ArrayList<>();
+        List<BigInteger[]> values = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int radix = EXACT_RADICES[random.nextInt(EXACT_RADICES.length)];
+            String hex = number(random, radix);
+            AbstractNumber number = new AbstractNumber(hex, radix);
+            if (random.nextInt(4) == 0) number = number.setPrecision(1_000).newRadix(16);
+            numbers.add(number);
+            values.add(exact(hex, radix));
+        }
+        numbers.add(AbstractNumber.valueOf(0));
+        values.add(new BigInteger[]{BigInteger.ZERO, BigInteger.ONE});
+        numbers.add(AbstractNumber.valueOf(-3));
+        values.add(new BigInteger[]{BigInteger.valueOf(-3), BigInteger.ONE});
+
+        for (int i = 0; i < 100_000; i++) {
+            int a = random.nextInt(numbers.size());
+            int b = random.nextInt(i % 3 == 0 ? 50 : numbers.size());
+            AbstractNumber x = numbers.get(a);
+            AbstractNumber y = numbers.get(b);
+            int truth = values.get(a)[0].multiply(values.get(b)[1]).compareTo(values.get(b)[0].multiply(values.get(a)[1]));
+
+            assertEquals(truth, Integer.signum(x.compareTo(y)), () -> x.hex() + " vs " + y.hex());
+            assertEquals(-truth, Integer.signum(y.compareTo(x)));
+            assertEquals(truth == 0, x.equals(y));
+            if (truth == 0) assertEquals(x.hashCode(), y.hashCode(), () -> x.hex() + " vs " + y.hex());
+        }
+    }
+
+    @Test
+    void orderingIsTransitive() {
+        AbstractNumber a = new AbstractNumber("0.1", 3);
+        AbstractNumber f = new AbstractNumber("0.0" + "2".repeat(80), 3);
+        AbstractNumber e = new AbstractNumber(a.toNumber());
+        assertTransitive(List.of(a, f, e));
+
+        Random random = new Random(10);
+        int[] radices = {2, 3, 6, 7, 10, 16};
+        List<AbstractNumber> numbers = new ArrayList<>(List.of(a, f, e));
+        for (int i = 0; i < 150; i++) {
+            int radix = radices[random.nextInt(radices.length)];
+            AbstractNumber number = new AbstractNumber(random.nextBoolean() ? "0.1" + "0".repeat(random.nextInt(3))
+                    : "0.0" + "2".repeat(1 + random.nextInt(90)), radix == 2 || radix == 10 || radix == 16 ? 3 : radix);
+            if (random.nextInt(3) == 0) number = new AbstractNumber(number.toNumber());
+            else if (random.nextInt(3) == 0) number = number.newRadix(radix);
+            numbers.add(number);
+        }
+        assertTransitive(numbers);
+    }
+
+    private static void assertTransitive(List<AbstractNumber> numbers) {
+        for (AbstractNumber x : numbers) {
+            for (AbstractNumber y : numbers) {
+                int xy = Integer.signum(x.compareTo(y));
+                assertEquals(-xy, Integer.signum(y.compareTo(x)));
+                assertEquals(xy == 0, x.equals(y));
+                if (xy == 0) assertEquals(x.hashCode(), y.hashCode());
+                for (AbstractNumber z : numbers) {
+                    int yz = Integer.signum(y.compareTo(z));
+                    if (xy == yz) assertEquals(xy, Integer.signum(x.compareTo(z)),
+                            () -> x.hex() + ", " + y.hex() + ", " + z.hex());
+                }
+            }
+        }
+    }
+
+    @Test
+    void equalNumbersHashAlikeWhateverTheirForm() {
+        AbstractNumber compact = AbstractNumber.valueOf(255);
+        for (AbstractNumber number : new AbstractNumber[]{new AbstractNumber("FF", 16), new AbstractNumber("255.00", 10),
+                new AbstractNumber(new java.math.BigDecimal("255.0")), new AbstractNumber("11111111", 2).newRadix(7)}) {
+            assertEquals(compact, number);
+            assertEquals(number, compact);
+            assertEquals(compact.hashCode(), number.hashCode());
+        }
+    }
+
+    @Test
+    void sortDistinctMatchesATreeSet() {
+        Random random = new Random(8);
+        List<AbstractNumber> numbers = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            int radix = EXACT_RADICES[random.nextInt(EXACT_RADICES.length)];
+            numbers.add(new AbstractNumber(number(random, radix), radix));
+        }
+        List<AbstractNumber> sorted = AbstractNumber.sortDistinct(numbers);
+        assertEquals(new ArrayList<>(new TreeSet<>(numbers)), sorted);
+        assertEquals(new HashSet<>(numbers).size(), sorted.size());
+    }
+
+    @Test
+    void rejectsNegativePrecision() {
+        for (AbstractNumber number : new AbstractNumber[]{AbstractNumber.TEN, new AbstractNumber("A.8", 16),
+                new AbstractNumber(new java.math.BigDecimal("0.1"))}) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> number.setPrecision(-1));
+            assertEquals("Invalid precision -1: expected 0 or more", exception.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> number.divide(AbstractNumber.TWO, -1));
+        }
+    }
+
+    @Test
+    void formatNumberSpellsTheSignOnce() {
+        assertEquals("(- NEG) 1,234,567.25", new AbstractNumber("-1234567.25", 10).formatNumber());
+        assertEquals("1,234,567.25", new AbstractNumber("1234567.25", 10).formatNumber());
+        assertEquals("(- NEG) 123,456", AbstractNumber.valueOf(-123456).formatNumber());
+        assertEquals("(- NEG) 9,223,372,036,854,775,808", AbstractNumber.valueOf(Long.MIN_VALUE).formatNumber());
+    }
+
+    /**
+     * Every streaming entry point spells out exactly {@link AbstractNumber#hex()}. Each one gets a fresh instance,
+     * as {@code hex()} may memoize a form the lazy paths would otherwise stream from.
+     */
+    private static void assertStreamsHex(java.util.function.Supplier<AbstractNumber> number) throws java.io.IOException {
+        String hex = number.get().hex();
+
+        StringBuilder iterated = new StringBuilder();
+        number.get().hexIterator().forEachRemaining((int symbol) -> iterated.append((char) symbol));
+        assertEquals(hex, iterated.toString(), "hexIterator()");
+
+        StringBuilder split = new StringBuilder();
+        number.get().hexSpliterator().forEachRemaining((int symbol) -> split.append((char) symbol));
+        assertEquals(hex, split.toString(), "hexSpliterator()");
+
+        StringBuilder appended = new StringBuilder();
+        number.get().writeTo(appended);
+        assertEquals(hex, appended.toString(), "writeTo(Appendable)");
+
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        assertEquals(hex.length(), number.get().writeTo(java.nio.channels.Channels.newChannel(bytes)));
+        assertEquals(hex, bytes.toString(java.nio.charset.StandardCharsets.ISO_8859_1), "writeTo(WritableByteChannel)");
+
+        java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(hex.length() + 1);
+        buffer.put((byte) ' ');
+        assertEquals(hex.length(), number.get().writeTo(buffer));
+        assertEquals(" " + hex, new String(buffer.array(), 0, buffer.position(),
+                java.nio.charset.StandardCharsets.ISO_8859_1), "writeTo(ByteBuffer)");
+    }
+
+    @Test
+    void streamingMatchesHexForEveryForm() throws java.io.IOException {
+        String big = "9".repeat(AbstractNumber.PACK_THRESHOLD + 7);
+        // compact
+        assertStreamsHex(() -> AbstractNumber.valueOf(-255));
+        assertStreamsHex(() -> AbstractNumber.valueOf(0));
+        assertStreamsHex(() -> new AbstractNumber("1f", 16));
+        // HEX, with and without a fraction
+        assertStreamsHex(() -> new AbstractNumber("-12345678901234567890", 10));
+        assertStreamsHex(() -> new AbstractNumber("12345678901234567890.5", 10));
+        assertStreamsHex(() -> new AbstractNumber("0.000", 7));
+        // packed, beyond the threshold
+        assertStreamsHex(() -> new AbstractNumber(big, 10));
+        assertStreamsHex(() -> new AbstractNumber("-" + big + ".25", 10));
+        // converted lazily from the exact digits, through every kind of radix pair
+        for (int target : new int[]{2, 7, 10, 16, 64}) {
+            assertStreamsHex(() -> new AbstractNumber(big, 10).newRadix(target));
+            assertStreamsHex(() -> new AbstractNumber("-" + big + ".7", 10).setPrecision(5).newRadix(target));
+            assertStreamsHex(() -> new AbstractNumber("-1A2B3C4D5E6F7A8B9C.F8", 16).newRadix(target));
+        }
+        // from a BigDecimal
+        assertStreamsHex(() -> new AbstractNumber(new java.math.BigDecimal("-123456789012345678901.375")).newRadix(3));
+    }
+
+    @Test
+    void streamingCarriesARoundedFractionIntoTheIntegerPart() throws java.io.IOException {
+        assertStreamsHex(() -> new AbstractNumber("12345678901234567899.99", 10).newRadix(16).setPrecision(1));
+        assertStreamsHex(() -> new AbstractNumber("12345678901234567899.99", 10).setPrecision(1).newRadix(16));
+        assertStreamsHex(() -> new AbstractNumber("FFFFFFFFFFFFFFFFFFFF.FF", 16).setPrecision(1));
+        StringBuilder out = new StringBuilder();
+        new AbstractNumber("FFFFFFFFFFFFFFFFFFFF.FF", 16).setPrecision(1).writeTo(out);
+        assertEquals("100000000000000000000.0", out.toString());
+    }
+
+    @Test
+    void hexIsSpelledOnce() {
+        String big = "-" + "7".repeat(AbstractNumber.PACK_THRESHOLD + 3) + ".5";
+        for (AbstractNumber number : new AbstractNumber[]{new AbstractNumber("-1F.8", 16),
+                new AbstractNumber("12345678901234567890", 10).setPrecision(3), new AbstractNumber(big, 10),
+                new AbstractNumber(big, 10).newRadix(16), AbstractNumber.TEN.add(new AbstractNumber("0.5", 10))}) {
+            String hex = number.hex();
+            assertSame(hex, number.hex()); // the packed one is held softly, but strongly reachable from here
+            StringBuilder streamed = new StringBuilder();
+            number.hexIterator().forEachRemaining((int symbol) -> streamed.append((char) symbol));
+            assertEquals(hex, streamed.toString());
+        }
+        assertEquals("-1F.80000", new AbstractNumber("-1F.8", 16).hex());
+    }
+
+    @Test
+    void writeToAppendableCopiesReadOnlyChunks() throws java.io.IOException {
+        AbstractNumber number = new AbstractNumber("12345678901234567890.5", 10);
+        StringBuilder out = new StringBuilder();
+        number.writeTo(out);
+        assertEquals(number.hex(), out.toString());
+    }
+
+    private static void assertValue(java.math.BigDecimal expected, AbstractNumber actual) {
+        assertEquals(0, expected.compareTo(actual.toNumber()), () -> expected + " vs " + actual.toNumber());
+    }
+
+    private static void assertValue(BigInteger expected, AbstractNumber actual) {
+        assertValue(new java.math.BigDecimal(expected), actual);
+        assertEquals(expected.toString(), actual.hex());
+    }
+
+    @Test
+    void arithmeticOverflowsLongsExactly() {
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+        AbstractNumber maxNumber = AbstractNumber.valueOf(Long.MAX_VALUE);
+        AbstractNumber minNumber = AbstractNumber.valueOf(Long.MIN_VALUE);
+        AbstractNumber one = AbstractNumber.ONE;
+
+        assertValue(max.add(BigInteger.ONE), maxNumber.add(one));
+        assertValue(max.add(max), maxNumber.add(maxNumber));
+        assertValue(min.subtract(BigInteger.ONE), minNumber.subtract(one));
+        assertValue(min.add(min), minNumber.add(minNumber));
+        assertValue(max.subtract(min), maxNumber.subtract(minNumber));
+        assertValue(max.multiply(max), maxNumber.multiply(maxNumber));
+        assertValue(min.multiply(min), minNumber.multiply(minNumber));
+        assertValue(min.negate(), minNumber.multiply(one.negate()));
+        assertValue(min.negate(), minNumber.negate());
+        assertValue(min, minNumber.negate().negate());
+        assertValue(max.pow(3), maxNumber.pow(3));
+        assertValue(max, maxNumber.add(one).subtract(one)); // back within a long
+    }
+
+    @Test
+    void arithmeticMatchesBigDecimalAcrossRadices() {
+        Random random = new Random(11);
+        int[] radices = {2, 10, 16, 3, 7};
+        for (int i = 0; i < 3_000; i++) {
+            int radixA = radices[random.nextInt(radices.length)];
+            int radixB = random.nextBoolean() ? radixA : radices[random.nextInt(radices.length)];
+            AbstractNumber a = new AbstractNumber(number(random, radixA), radixA).setPrecision(8);
+            AbstractNumber b = new AbstractNumber(number(random, radixB), radixB);
+            // whatever the path taken, the operands' own values go in exactly
+            java.math.BigDecimal x = a.toNumber();
+            java.math.BigDecimal y = b.toNumber();
+            String operands = a.hex() + " (" + radixA + "), " + b.hex() + " (" + radixB + ")";
+
+            AbstractNumber sum = a.add(b);
+            if (FractionEngine.isExactInDecimal(radixA) && FractionEngine.isExactInDecimal(radixB)) {
+                assertEquals(0, x.add(y).compareTo(sum.toNumber()), operands);
+                assertEquals(0, x.subtract(y).compareTo(a.subtract(b).toNumber()), operands);
+                assertEquals(0, x.multiply(y).compareTo(a.multiply(b).toNumber()), operands);
+            }
+            assertEquals(a, a.add(b).subtract(b), operands);
+        }
+    }
+
+    @Test
+    void mixedRadicesKeepTheRadixOfTheReceiver() {
+        AbstractNumber sum = new AbstractNumber("1.8", 16).add(new AbstractNumber("0.25", 10));
+        assertValue(new java.math.BigDecimal("1.75"), sum);
+        assertEquals("1.C0000", sum.hex());
+
+        AbstractNumber third = new AbstractNumber("0.1", 3);
+        AbstractNumber mixed = AbstractNumber.TEN.add(third);
+        assertValue(java.math.BigDecimal.TEN.add(third.toNumber()), mixed);
+        assertValue(new java.math.BigDecimal("9"), new AbstractNumber("100", 3).multiply(new AbstractNumber("1", 7)));
+    }
+
+    @Test
+    void divideRoundsHalfUp() {
+        AbstractNumber two = AbstractNumber.TWO;
+        assertEquals("0.66700", two.divide(AbstractNumber.valueOf(3), 3).hex());
+        assertEquals("0.13000", AbstractNumber.ONE.divide(AbstractNumber.valueOf(8), 2).hex());
+        assertEquals("-0.13000", AbstractNumber.valueOf(-1).divide(AbstractNumber.valueOf(8), 2).hex());
+        assertEquals("-0.13000", AbstractNumber.ONE.divide(AbstractNumber.valueOf(-8), 2).hex());
+        assertEquals("1", new AbstractNumber("0.999", 10).divide(AbstractNumber.ONE, 2).hex()); // carried over
+        assertEquals("-1", new AbstractNumber("-0.999", 10).divide(AbstractNumber.ONE, 2).hex());
+        assertEquals("0.80000", new AbstractNumber("1", 16).divide(two, 1).hex());
+        assertThrows(ArithmeticException.class, () -> two.divide(AbstractNumber.valueOf(0), 2));
+
+        Random random = new Random(12);
+        for (int i = 0; i < 2_000; i++) {
+            AbstractNumber a = new AbstractNumber(number(random, 10), 10);
+            AbstractNumber b = new AbstractNumber(number(random, 10), 10);
+            if (b.toNumber().signum() == 0) continue;
+            int precision = random.nextInt(12);
+            java.math.BigDecimal expected = a.toNumber().divide(b.toNumber(), precision, java.math.RoundingMode.HALF_UP);
+            assertValue(expected, a.divide(b, precision));
+        }
+    }
+
+    @Test
+    void powOfZeroIsOne() {
+        for (AbstractNumber number : new AbstractNumber[]{AbstractNumber.valueOf(0), AbstractNumber.valueOf(-7),
+                new AbstractNumber("-A.8", 16), new AbstractNumber("0.1", 3), new AbstractNumber("9".repeat(40), 10)}) {
+            assertEquals(AbstractNumber.ONE, number.pow(0));
+            assertEquals("1", number.pow(0).hex());
+        }
+        assertValue(new java.math.BigDecimal("-1157.625"), new AbstractNumber("-10.5", 10).pow(3));
+        assertThrows(IllegalArgumentException.class, () -> AbstractNumber.TWO.pow(-1));
+    }
+
+    @Test
+    void shiftsMoveThePointPastTheFraction() {
+        AbstractNumber number = new AbstractNumber("-A.8", 16);
+        assertEquals("-A800", number.shiftLeft(3).hex());
+        assertEquals("-0.00A80", number.shiftRight(3).hex());
+        assertEquals(number, number.shiftRight(7).shiftLeft(7));
+        assertEquals(number.shiftLeft(3), number.shiftRight(-3));
+        assertEquals(number.shiftRight(3), number.shiftLeft(-3));
+        assertValue(new java.math.BigDecimal("125000"), new AbstractNumber("1.25", 10).shiftLeft(5));
+        assertValue(new java.math.BigDecimal("0.0000125"), new AbstractNumber("1.25", 10).shiftRight(5));
+        assertValue(new java.math.BigDecimal("12.5"), new AbstractNumber("0.00125", 10).shiftLeft(4));
+        assertEquals("0.00220", new AbstractNumber("0.22", 3).shiftRight(2).hex());
+    }
+
+    @Test
+    void negateKeepsThePrecision() {
+        for (AbstractNumber number : new AbstractNumber[]{AbstractNumber.valueOf(-12),
+                AbstractNumber.valueOf(Long.MIN_VALUE), new AbstractNumber("A.8", 16), new AbstractNumber("0.1", 3),
+                new AbstractNumber(new java.math.BigDecimal("0.1")).newRadix(3),
+                new AbstractNumber("0.1", 3).multiply(new AbstractNumber("0.5", 10))}) {
+            AbstractNumber precise = number.setPrecision(9);
+            AbstractNumber negated = precise.negate();
+            String hex = precise.hex();
+            assertEquals(hex.startsWith("-") ? hex.substring(1) : "-" + hex, negated.hex(), hex);
+            assertEquals(precise, negated.negate());
+        }
+    }
+
+    @Test
+    void toStringSignsEveryForm() {
+        assertEquals("AbstractNumber{radix='10', hex='-12.5', binary='-1100.10000', decimal='-12.5', " +
+                "negative='true'}", new AbstractNumber("-12.5", 10).toString());
+    }
+}
@@ -0,0 +1,88 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkConverterTest {
+    /**Numbers of very uneven lengths, so that slices finish out of order; every 97th one is invalid.*/
+    private static List<String> inputs(int count) {
+        Random random = new Random(14);
+        List<String> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % 97 == 5) {
+                inputs.add("12G" + i);
+                continue;
+            }
+            int length = 1 + random.nextInt(random.nextInt(20) == 0 ? 3_000 : 12);
+            StringBuilder number = new StringBuilder(random.nextBoolean() ? "-" : "");
+            for (int j = 0; j < length; j++) number.append((char) ('0' + random.nextInt(10)));
+            if (random.nextBoolean()) number.append('.').append(random.nextInt(1000));
+            inputs.add(number.toString());
+        }
+        return inputs;
+    }
+
+    private static void assertResults(List<String> inputs, List<BulkConverter.Result> results) {
+        Converter converter = Converter.of(10, 16, 4);
+        assertEquals(inputs.size(), results.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            BulkConverter.Result result = results.get(i);
+            String input = inputs.get(i);
+            assertEquals(input, result.getInput());
+            if (i % 97 == 5) {
+                assertFalse(result.isSuccess(), input);
+                assertNull(result.getOutput());
+                assertInstanceOf(IllegalArgumentException.class, result.getError());
+            } else {
+                assertTrue(result.isSuccess(), input);
+                assertEquals(converter.convert(input), result.getOutput());
+            }
+        }
+    }
+
+    @Test
+    void listKeepsTheOrderAcrossSlices() {
+        List<String> inputs = inputs(5_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ExecutorService fixed = Executors.newFixedThreadPool(3);
+        try {
+            assertResults(inputs, new BulkConverter(10, 16, 4, pool).convert(inputs));
+            assertResults(inputs, new BulkConverter(10, 16, 4, fixed).convert(inputs));
+            assertResults(inputs, new BulkConverter(10, 16, 4).convert(inputs));
+        } finally {
+            pool.shutdown();
+            fixed.shutdown();
+        }
+    }
+
+    @Test
+    void streamKeepsTheEncounterOrder() {
+        List<String> inputs = inputs(5_000);
+        assertResults(inputs, new BulkConverter(10, 16, 4).convert(inputs.stream()).collect(Collectors.toList()));
+    }
+
+    @Test
+    void oneBadInputDoesNotAbortTheBatch() {
+        BulkConverter converter = new BulkConverter(10, 16, 4);
+        List<BulkConverter.Result> results = converter.convert(List.of("255", "x", "", "16.5"));
+        assertEquals("FF", results.get(0).getOutput());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("x -> " + results.get(1).getError().getMessage(), results.get(1).toString());
+        assertEquals("10.8000", results.get(3).getOutput());
+
+        List<BulkConverter.Result> streamed = converter.convert(List.of("255", "x", "16.5").stream())
+                .collect(Collectors.toList());
+        assertEquals(List.of(true, false, true),
+                streamed.stream().map(BulkConverter.Result::isSuccess).collect(Collectors.toList()));
+        assertTrue(converter.convert(List.of()).isEmpty());
+    }
+}
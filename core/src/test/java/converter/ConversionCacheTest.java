@@ -0,0 +1,85 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionCacheTest {
+    private static void assertCounters(ConversionCache cache, long hits, long misses, long evictions, int size) {
+        assertEquals(hits, cache.hits(), "hits");
+        assertEquals(misses, cache.misses(), "misses");
+        assertEquals(evictions, cache.evictions(), "evictions");
+        assertEquals(size, cache.size(), "size");
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsed() {
+        ConversionCache cache = new ConversionCache(2);
+        cache.convert("10", 10, 2, 0);
+        cache.convert("20", 10, 2, 0);
+        assertCounters(cache, 0, 2, 0, 2);
+
+        cache.convert("10", 10, 2, 0); // 10 is now the most recently used
+        cache.convert("30", 10, 2, 0); // so 20 goes
+        assertCounters(cache, 1, 3, 1, 2);
+
+        cache.convert("10", 10, 2, 0);
+        assertCounters(cache, 2, 3, 1, 2);
+        cache.convert("20", 10, 2, 0); // evicted before, evicting 30 now
+        assertCounters(cache, 2, 4, 2, 2);
+        cache.convert("30", 10, 2, 0);
+        assertCounters(cache, 2, 5, 3, 2);
+
+        cache.clear();
+        assertCounters(cache, 2, 5, 3, 0);
+        assertEquals(2, cache.capacity());
+    }
+
+    @Test
+    void keysOnEveryParameter() {
+        ConversionCache cache = new ConversionCache(16);
+        assertEquals("A", cache.convert("10", 10, 16, 0));
+        assertEquals("16", cache.convert("10", 16, 10, 0));
+        assertEquals("1010", cache.convert("10", 10, 2, 0));
+        assertEquals("0.8", cache.convert("0.5", 10, 16, 1));
+        assertEquals("0.80", cache.convert("0.5", 10, 16, 2));
+        assertCounters(cache, 0, 5, 0, 5);
+    }
+
+    @Test
+    void failedConversionsAreNotCached() {
+        ConversionCache cache = new ConversionCache(4);
+        assertThrows(IllegalArgumentException.class, () -> cache.convert("1G", 10, 16, 0));
+        assertThrows(IllegalArgumentException.class, () -> cache.convert("1G", 10, 16, 0));
+        assertCounters(cache, 0, 2, 0, 0);
+    }
+
+    @Test
+    void matchesAbstractNumber() {
+        Random random = new Random(13);
+        ConversionCache cache = new ConversionCache(64);
+        for (int i = 0; i < 5_000; i++) {
+            int sourceRadix = 2 + random.nextInt(63);
+            int targetRadix = 2 + random.nextInt(63);
+            int precision = random.nextInt(8);
+            StringBuilder input = new StringBuilder(random.nextBoolean() ? "-" : "");
+            for (int j = random.nextInt(3); j >= 0; j--)
+                input.append((char) DigitCodec.SYMBOLS[random.nextInt(sourceRadix)]);
+            if (random.nextBoolean()) input.append('.').append((char) DigitCodec.SYMBOLS[random.nextInt(sourceRadix)]);
+
+            String expected = new AbstractNumber(input.toString(), sourceRadix).setPrecision(precision)
+                    .newRadix(targetRadix).hex();
+            assertEquals(expected, cache.convert(input.toString(), sourceRadix, targetRadix, precision));
+            assertEquals(expected, cache.convert(input.toString(), sourceRadix, targetRadix, precision));
+        }
+        assertTrue(cache.hits() >= 5_000);
+        assertEquals(10_000, cache.hits() + cache.misses());
+    }
+
+    @Test
+    void rejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ConversionCache(0));
+    }
+}
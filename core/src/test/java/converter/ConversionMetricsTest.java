@@ -0,0 +1,92 @@
+package converter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionMetricsTest {
+    /**A radix pair no other test converts between.*/
+    private static final int SOURCE = 63;
+    private static final int TARGET = 62;
+
+    private final ConversionMetrics metrics = ConversionMetrics.get();
+    private boolean enabled;
+
+    @BeforeEach
+    void enable() {
+        enabled = metrics.isEnabled();
+        metrics.setEnabled(true);
+        metrics.reset();
+    }
+
+    @AfterEach
+    void restore() {
+        metrics.setEnabled(enabled);
+    }
+
+    private ConversionMetrics.Latency latency(int length) {
+        for (ConversionMetrics.Latency latency : metrics.snapshot().getLatencies()) {
+            if (latency.getSourceRadix() == SOURCE && latency.getTargetRadix() == TARGET
+                    && latency.getMinLength() <= length && length < latency.getMaxLength()) return latency;
+        }
+        return fail("No latency for length " + length);
+    }
+
+    @Test
+    void percentilesRoundUpToThePowerOfTwoBound() {
+        for (int i = 0; i < 100; i++) ConversionMetrics.conversion(SOURCE, TARGET, 100, 1_000);
+        ConversionMetrics.conversion(SOURCE, TARGET, 100, 1_000_000);
+
+        ConversionMetrics.Latency latency = latency(100);
+        assertEquals(64, latency.getMinLength());
+        assertEquals(128, latency.getMaxLength());
+        assertEquals(101, latency.getCount());
+        assertEquals(1_100_000, latency.getTotalNanos());
+        assertEquals(1_000_000, latency.getMaxNanos());
+        assertEquals(1_100_000 / 101.0, latency.getMeanNanos(), 1e-9);
+        assertEquals(1_023, latency.getPercentileNanos(0));
+        assertEquals(1_023, latency.getPercentileNanos(50));
+        assertEquals(1_023, latency.getPercentileNanos(99)); // 100 of the 101 conversions
+        assertEquals(1_000_000, latency.getPercentileNanos(99.5)); // clamped to the max, not 2^20 - 1
+        assertEquals(1_000_000, latency.getPercentileNanos(100));
+    }
+
+    @Test
+    void percentilesOfTheLastBucketAreTheMax() {
+        ConversionMetrics.conversion(SOURCE, TARGET, 0, Long.MAX_VALUE);
+        ConversionMetrics.conversion(SOURCE, TARGET, 0, Long.MAX_VALUE / 2 + 1);
+        ConversionMetrics.conversion(SOURCE, TARGET, 0, -5); // clock went backwards: counted as 0
+
+        ConversionMetrics.Latency latency = latency(0);
+        assertEquals(3, latency.getCount());
+        assertEquals(1, latency.getPercentileNanos(10));
+        assertEquals(Long.MAX_VALUE, latency.getPercentileNanos(50));
+        assertEquals(Long.MAX_VALUE, latency.getPercentileNanos(100));
+    }
+
+    @Test
+    void countsCacheHitsApartFromConversions() {
+        ConversionCache cache = new ConversionCache(4);
+        for (int i = 0; i < 3; i++) cache.convert("zz", 62, 10, 0);
+        assertEquals(1, metrics.getConversions());
+        assertEquals(2, metrics.getCacheHits());
+        assertEquals(1, metrics.snapshot().getLatencies().stream().mapToLong(ConversionMetrics.Latency::getCount).sum());
+
+        metrics.reset();
+        assertEquals(0, metrics.getCacheHits());
+        assertTrue(metrics.snapshot().getLatencies().isEmpty());
+    }
+
+    @Test
+    void recordsNothingWhileDisabled() {
+        metrics.setEnabled(false);
+        ConversionMetrics.conversion(SOURCE, TARGET, 1, 1);
+        ConversionMetrics.cacheHit();
+        ConversionMetrics.error(new IllegalArgumentException());
+        assertEquals(0, metrics.getConversions());
+        assertEquals(0, metrics.getCacheHits());
+        assertEquals(0, metrics.getErrors());
+    }
+}
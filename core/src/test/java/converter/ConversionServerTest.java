@@ -0,0 +1,82 @@
+package converter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionServerTest {
+    private ConversionServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new ConversionServer(0, 4).start();
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        server.close();
+    }
+
+    /**Send every request at once on one connection, then read back as many responses.*/
+    private List<String> pipeline(List<String> requests) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            socket.setSoTimeout(60_000);
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1);
+            for (String request : requests) out.write(request + "\n");
+            out.flush();
+            socket.shutdownOutput();
+
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.ISO_8859_1));
+            List<String> responses = new ArrayList<>();
+            for (String line = in.readLine(); line != null; line = in.readLine()) responses.add(line);
+            return responses;
+        }
+    }
+
+    @Test
+    void answersOkAndErr() throws IOException {
+        List<String> responses = pipeline(List.of("10 16 1 255 -10.5", "10 2 0 1 G 1", "10 16", "x 16 0 1",
+                "10 99 0 1"));
+        assertEquals(5, responses.size());
+        assertEquals("OK FF -A.8", responses.get(0));
+        IllegalArgumentException invalid = assertThrows(IllegalArgumentException.class,
+                () -> Converter.of(10, 2, 0).convert("G"));
+        assertEquals("ERR 2 " + invalid.getMessage(), responses.get(1));
+        assertEquals("ERR 0 Expected: {source base} {target base} {precision} {number} [{number} ...]",
+                responses.get(2));
+        assertEquals("ERR 0 For input string: \"x\"", responses.get(3));
+        assertTrue(responses.get(4).startsWith("ERR 0 "), responses.get(4));
+    }
+
+    @Test
+    void answersPipelinedRequestsInOrder() throws IOException {
+        List<String> requests = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            // long and short requests mixed, so that later ones are often converted first
+            String number = i % 10 == 0 ? "9".repeat(5_000) + i : Integer.toString(i);
+            requests.add("10 16 0 " + number);
+            expected.add("OK " + Converter.of(10, 16, 0).convert(number));
+        }
+        assertEquals(expected, pipeline(requests));
+    }
+
+    @Test
+    void rejectsOversizedPrecisionAndKeepsAnswering() throws IOException {
+        List<String> responses = pipeline(List.of("10 2 2000000000 5", "10 2 " + (FractionEngine.MAX_PRECISION + 1)
+                + " 5", "10 2 0 5"));
+        assertEquals(List.of("ERR 0 Invalid precision 2000000000: expected at most " + FractionEngine.MAX_PRECISION,
+                "ERR 0 Invalid precision " + (FractionEngine.MAX_PRECISION + 1) + ": expected at most "
+                        + FractionEngine.MAX_PRECISION, "OK 101"), responses);
+    }
+}
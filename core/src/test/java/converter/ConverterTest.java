@@ -0,0 +1,90 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConverterTest {
+    private static String number(Random random, int radix) {
+        StringBuilder number = new StringBuilder(random.nextBoolean() ? "-" : "");
+        int length = 1 + random.nextInt(random.nextInt(20) == 0 ? 400 : 40);
+        for (int i = 0; i < length; i++) number.append((char) DigitCodec.SYMBOLS[random.nextInt(radix)]);
+        if (random.nextBoolean()) number.insert(number.length() - random.nextInt(length), AbstractNumber.DECIMAL_SPLIT);
+        return number.toString();
+    }
+
+    private static String viaAbstractNumber(String input, int sourceRadix, int targetRadix, int precision) {
+        try {
+            return new AbstractNumber(input, sourceRadix).setPrecision(precision).newRadix(targetRadix).hex();
+        } catch (RuntimeException exception) {
+            return exception.toString();
+        }
+    }
+
+    private static String viaConverter(String input, int sourceRadix, int targetRadix, int precision) {
+        try {
+            return Converter.of(sourceRadix, targetRadix, precision).convert(input);
+        } catch (RuntimeException exception) {
+            return exception.toString();
+        }
+    }
+
+    @Test
+    void convertsLikeAbstractNumber() {
+        Random random = new Random(5);
+        for (int i = 0; i < 20_000; i++) {
+            int sourceRadix = 2 + random.nextInt(63);
+            int targetRadix = 2 + random.nextInt(63);
+            int precision = random.nextInt(15);
+            String input = number(random, sourceRadix);
+            assertEquals(viaAbstractNumber(input, sourceRadix, targetRadix, precision),
+                    viaConverter(input, sourceRadix, targetRadix, precision),
+                    () -> input + " from " + sourceRadix + " to " + targetRadix + " at " + precision);
+        }
+    }
+
+    @Test
+    void reportsInvalidInputLikeAbstractNumber() {
+        for (String input : new String[]{"1.2.3", "12#", "1.#", "19", "-", ""})
+            assertEquals(viaAbstractNumber(input, 8, 16, 5), viaConverter(input, 8, 16, 5), input);
+    }
+
+    @Test
+    void convertsBytesLikeStrings() {
+        Random random = new Random(6);
+        ByteBuffer output = ByteBuffer.allocate(1 << 12);
+        for (int i = 0; i < 5_000; i++) {
+            int sourceRadix = 2 + random.nextInt(63);
+            Converter converter = Converter.of(sourceRadix, 2 + random.nextInt(63), random.nextInt(15));
+            String input = number(random, sourceRadix);
+            ByteBuffer bytes = ByteBuffer.wrap(input.getBytes(StandardCharsets.ISO_8859_1));
+
+            output.clear();
+            int written = converter.convert(bytes, output);
+            assertFalse(bytes.hasRemaining());
+            assertEquals(converter.convert(input), new String(output.array(), 0, written, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    @Test
+    void rejectsNegativePrecision() {
+        assertThrows(IllegalArgumentException.class, () -> Converter.of(10, 16, -1));
+    }
+
+    @Test
+    void rejectsPrecisionAboveTheCap() {
+        int max = FractionEngine.MAX_PRECISION;
+        for (int precision : new int[]{max + 1, 2_000_000_000, Integer.MAX_VALUE}) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> Converter.of(10, 2, precision));
+            assertEquals("Invalid precision " + precision + ": expected at most " + max, exception.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> new BulkConverter(10, 2, precision));
+            assertThrows(IllegalArgumentException.class, () -> AbstractNumber.TEN.setPrecision(precision));
+        }
+        assertEquals(max, Converter.of(64, 64, max).getPrecision());
+    }
+}
@@ -0,0 +1,55 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DigitCodecTest {
+    private static void assertRejected(Class<? extends RuntimeException> type, String message, String hex, int radix) {
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> DigitCodec.decode(hex, radix));
+        assertEquals(type, exception.getClass());
+        assertEquals(message, exception.getMessage());
+    }
+
+    @Test
+    void decodesSignPointAndDigits() {
+        DigitCodec.Digits digits = DigitCodec.decode("-1f.8", 16);
+        assertTrue(digits.negative);
+        assertArrayEquals(new byte[]{1, 15, 8}, digits.values);
+        assertEquals(2, digits.point);
+        assertTrue(digits.separated);
+        assertEquals("1F.8", digits.toString());
+    }
+
+    @Test
+    void lettersAreCaseSensitiveBeyondBase36() {
+        assertArrayEquals(new byte[]{10, 36}, DigitCodec.decode("Aa", 64).values);
+    }
+
+    @Test
+    void rejectsTooManySeparators() {
+        assertRejected(IllegalArgumentException.class, "Too many decimal separators! Expected 0, 1; found: 2x '.'",
+                "1.2.3", 10);
+    }
+
+    @Test
+    void rejectsRadicesOutOfBounds() {
+        assertRejected(IllegalArgumentException.class, "This converter only supports up to Base64 encoding!", "1", 65);
+        assertRejected(IllegalArgumentException.class,
+                "Invalid radix 1: one cannot form a number out ofanything less than Base 2", "1", 1);
+    }
+
+    @Test
+    void rejectsSymbolsOutsideOfTheAlphabet() {
+        assertRejected(NumberFormatException.class, "Invalid HEX Characters -> '#?'", "1#2?", 10);
+        assertRejected(IllegalStateException.class, "'#' is not a valid Base64 Character!", "1.#", 10);
+    }
+
+    @Test
+    void rejectsDigitsOutsideOfTheRadix() {
+        assertRejected(IllegalArgumentException.class,
+                "Error! Digit '9' is greater than or equal to upper radix bound 8", "19", 8);
+        assertRejected(IllegalArgumentException.class,
+                "Error! Digit 'Z' is greater than or equal to upper radix bound 16", "z.1", 16);
+    }
+}
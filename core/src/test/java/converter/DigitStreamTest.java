@@ -0,0 +1,101 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DigitStreamTest {
+    /**@return every symbol of {@code stream}, checking that no chunk is longer than {@link DigitStream#CHUNK}*/
+    private static String drain(DigitStream stream, boolean bounded) {
+        StringBuilder symbols = new StringBuilder();
+        for (ByteBuffer chunk = stream.nextChunk(); chunk != null; chunk = stream.nextChunk()) {
+            if (bounded) assertTrue(chunk.remaining() <= DigitStream.CHUNK, chunk.remaining() + " symbols");
+            byte[] bytes = new byte[chunk.remaining()];
+            chunk.get(bytes);
+            symbols.append(new String(bytes, StandardCharsets.ISO_8859_1));
+        }
+        return symbols.toString();
+    }
+
+    private static byte[] values(Random random, int length, int radix) {
+        byte[] values = new byte[length];
+        for (int i = 0; i < length; i++) values[i] = (byte) random.nextInt(radix);
+        return values;
+    }
+
+    @Test
+    void piecesComeOutInOrder() {
+        FractionEngine.Rounded fraction = FractionEngine.round(new byte[]{5}, 0, 1, 10, 16, 3);
+        DigitStream stream = new DigitStream().symbol('-').symbols("1F").digits(new byte[]{0, 10, 61}, 1, 3)
+                .fraction(fraction);
+        assertEquals("-1FAz.800", drain(stream, true));
+        assertNull(stream.nextChunk());
+    }
+
+    @Test
+    void digitsAreCutIntoChunks() {
+        byte[] values = values(new Random(1), 3 * DigitStream.CHUNK + 17, 64);
+        assertEquals(DigitCodec.symbols(values, 5, values.length),
+                drain(new DigitStream().digits(values, 5, values.length), true));
+    }
+
+    @Test
+    void repackMatchesRadixEngine() {
+        Random random = new Random(2);
+        int[] radices = {2, 4, 8, 16, 32, 64};
+        for (int i = 0; i < 300; i++) {
+            int source = radices[random.nextInt(radices.length)];
+            int target = radices[random.nextInt(radices.length)];
+            int length = random.nextInt(10) == 0 ? 2 * DigitStream.CHUNK + random.nextInt(500) : random.nextInt(20);
+            byte[] values = values(random, length, source);
+            if (random.nextBoolean() && length > 3) values[0] = values[1] = values[2] = 0;
+            assertEquals(RadixEngine.repackInteger(values, 0, length, source, target),
+                    drain(new DigitStream().repack(values, 0, length, source, target), true),
+                    () -> source + " -> " + target);
+        }
+    }
+
+    @Test
+    void integerMatchesRadixEngine() {
+        Random random = new Random(3);
+        for (int bits : new int[]{1, 63, 64, 1_000, 20_000, 100_000}) {
+            BigInteger value = new BigInteger(bits, random);
+            for (int radix : new int[]{2, 3, 10, 36, 64}) {
+                assertEquals(RadixEngine.format(value, radix), drain(new DigitStream().integer(value, radix), true),
+                        () -> bits + " bits in radix " + radix);
+            }
+        }
+        assertEquals("0", drain(new DigitStream().integer(BigInteger.ZERO, 7), true));
+        BigInteger power = BigInteger.TEN.pow(5_000);
+        assertEquals(power.toString(), drain(new DigitStream().integer(power, 10), true));
+    }
+
+    @Test
+    void iteratesSymbolBySymbol() {
+        DigitStream stream = new DigitStream().symbols("12").integer(BigInteger.valueOf(255), 16);
+        StringBuilder symbols = new StringBuilder();
+        while (stream.hasNext()) symbols.append((char) stream.nextInt());
+        assertEquals("12FF", symbols.toString());
+        assertFalse(stream.hasNext());
+        assertThrows(NoSuchElementException.class, stream::nextInt);
+    }
+
+    @Test
+    void writeToLeavesTheBufferAloneOnOverflow() {
+        ByteBuffer out = ByteBuffer.allocate(8);
+        out.put((byte) 'x');
+        assertThrows(BufferOverflowException.class,
+                () -> new DigitStream().integer(BigInteger.TEN.pow(20), 10).writeTo(out));
+        assertEquals(1, out.position());
+
+        assertEquals(4, new DigitStream().symbol('-').integer(BigInteger.valueOf(100), 10).writeTo(out));
+        assertEquals("x-100", new String(out.array(), 0, out.position(), StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,60 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileConversionTest {
+    @TempDir
+    Path directory;
+
+    private String convert(String number, int sourceRadix, int targetRadix) throws IOException {
+        Path input = directory.resolve("input.txt");
+        Path output = directory.resolve("output.txt");
+        Files.writeString(input, number);
+        FileConversion.convert(input, output, sourceRadix, targetRadix);
+        return Files.readString(output);
+    }
+
+    @Test
+    void convertsLikeConverter() throws IOException {
+        Random random = new Random(12);
+        int[][] pairs = {{10, 16}, {16, 2}, {2, 64}, {7, 10}, {36, 8}, {64, 3}};
+        for (int[] pair : pairs) {
+            for (int length : new int[]{1, 30, 5_000, 200_000}) {
+                StringBuilder number = new StringBuilder(random.nextBoolean() ? "-" : "");
+                number.append((char) DigitCodec.SYMBOLS[1 + random.nextInt(pair[0] - 1)]); // Converter spells 0 as "0."
+                for (int i = 1; i < length; i++) number.append((char) DigitCodec.SYMBOLS[random.nextInt(pair[0])]);
+                String expected = Converter.of(pair[0], pair[1], 0).convert(number);
+                assertEquals(expected, convert(" " + number + "\n", pair[0], pair[1]));
+            }
+        }
+    }
+
+    @Test
+    void dropsTheSignOfZero() throws IOException {
+        assertEquals("0", convert("-000", 10, 16));
+        assertEquals("0", convert("-000", 16, 2));
+    }
+
+    @Test
+    void recordsRejectedInput() {
+        ConversionMetrics metrics = ConversionMetrics.get();
+        boolean enabled = metrics.isEnabled();
+        metrics.setEnabled(true);
+        try {
+            long errors = metrics.getErrors();
+            assertThrows(IllegalArgumentException.class, () -> convert("12.5", 10, 16));
+            assertThrows(NumberFormatException.class, () -> convert("12 34", 10, 16));
+            assertEquals(errors + 2, metrics.getErrors());
+        } finally {
+            metrics.setEnabled(enabled);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FractionEngineTest {
+    /**Round the fraction {@code 0.{digits}} of {@code sourceRadix} to {@code precision} digits of {@code targetRadix}.*/
+    private static FractionEngine.Rounded round(String digits, int sourceRadix, int targetRadix, int precision) {
+        byte[] values = DigitCodec.decode(digits, sourceRadix).values;
+        return FractionEngine.round(values, 0, values.length, sourceRadix, targetRadix, precision);
+    }
+
+    @Test
+    void roundsHalfUp() {
+        assertEquals("13", round("125", 10, 10, 2).toString());
+        assertEquals("12", round("1249", 10, 10, 2).toString());
+        assertEquals("01", round("125", 10, 2, 2).toString()); // 0.125 = 0.001 in Base 2
+        assertEquals("00", round("124", 10, 2, 2).toString());
+        assertEquals("3", round("1", 3, 10, 1).toString()); // 0.333...
+        assertEquals("7", round("2", 3, 10, 1).toString()); // 0.666...
+    }
+
+    @Test
+    void carriesIntoTheIntegerPart() {
+        FractionEngine.Rounded sameRadix = round("999", 10, 10, 2);
+        assertTrue(sameRadix.carry);
+        assertEquals("00", sameRadix.toString());
+
+        FractionEngine.Rounded otherRadix = round("99", 10, 16, 1); // 15.84 sixteenths
+        assertTrue(otherRadix.carry);
+        assertEquals("0", otherRadix.toString());
+
+        FractionEngine.Rounded repacked = round("11111", 2, 16, 1); // 15.5 sixteenths
+        assertTrue(repacked.carry);
+        assertEquals("0", repacked.toString());
+
+        assertFalse(round("11101", 2, 16, 1).carry);
+    }
+
+    @Test
+    void tellsWhetherDigitsWereLost() {
+        assertTrue(round("8", 16, 2, 4).exact);
+        assertTrue(round("5", 10, 2, 1).exact);
+        assertFalse(round("1", 3, 10, 30).exact);
+        assertFalse(round("1", 10, 2, 30).exact);
+    }
+
+    @Test
+    void toDecimalIsExactWhenTheRadixAllowsIt() {
+        assertEquals(new BigDecimal("0.5000"), FractionEngine.toDecimal(new byte[]{8}, 0, 1, 16));
+        assertEquals(new BigDecimal("0.04"), FractionEngine.toDecimal(new byte[]{1}, 0, 1, 25));
+        assertEquals(34, FractionEngine.toDecimal(new byte[]{1}, 0, 1, 3).scale());
+    }
+}
@@ -0,0 +1,58 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedDigitsTest {
+    @Test
+    void roundTripsEveryRadixAndLength() {
+        Random random = new Random(18);
+        for (int radix = 2; radix <= DigitCodec.MAX_RADIX; radix++) {
+            for (int length : new int[]{0, 1, 2, 3, 4, 5, 6, 7, 9, 10, 11, 13, 14, 15, 101, 4_099}) {
+                byte[] values = new byte[length];
+                for (int i = 0; i < length; i++) values[i] = (byte) random.nextInt(radix);
+                if (length > 0) values[length - 1] = (byte) (radix - 1); // the highest bits, in the last byte
+                int point = random.nextInt(length + 1);
+                DigitCodec.Digits digits = new DigitCodec.Digits(random.nextBoolean(), values, point,
+                        random.nextBoolean());
+
+                for (boolean direct : new boolean[]{false, true}) {
+                    for (boolean signed : new boolean[]{false, true}) {
+                        String where = "radix " + radix + ", " + length + " digits, direct " + direct;
+                        PackedDigits packed = PackedDigits.pack(digits, signed, direct);
+                        assertEquals(direct, packed.isDirect(), where);
+                        assertEquals(length, packed.length(), where);
+                        assertEquals((length * 6 + 7) / 8, packed.size(), where);
+
+                        DigitCodec.Digits unpacked = packed.unpack();
+                        assertArrayEquals(values, unpacked.values, where);
+                        assertEquals(point, unpacked.point, where);
+                        assertEquals(digits.separated, unpacked.separated, where);
+                        assertEquals(signed && digits.negative, unpacked.negative, where);
+                        assertEquals((signed && digits.negative ? "-" : "") + digits, packed.toString(), where);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void packedNumbersConvertBackExactly() {
+        Random random = new Random(19);
+        for (int radix : new int[]{2, 10, 16, 64}) {
+            StringBuilder digits = new StringBuilder("-");
+            for (int i = 0; i < AbstractNumber.PACK_THRESHOLD + 1 + random.nextInt(5); i++)
+                digits.append((char) DigitCodec.SYMBOLS[random.nextInt(radix)]);
+            String hex = digits.insert(digits.length() - 3, AbstractNumber.DECIMAL_SPLIT).toString();
+
+            // above the threshold, the digits of an AbstractNumber are kept packed
+            AbstractNumber packed = new AbstractNumber(hex, radix).setPrecision(3);
+            assertEquals(hex.replaceFirst("^-0*", "-"), packed.hex());
+            AbstractNumber back = packed.setPrecision(40).newRadix(radix == 10 ? 16 : 10).newRadix(radix);
+            assertEquals(0, packed.toNumber().compareTo(back.toNumber()), "radix " + radix);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RadixEngineTest {
+    /**Bit lengths from a single chunk up to a deep product tree.*/
+    private static final int[] BITS = {1, 7, 63, 64, 65, 500, 4_000, 40_000};
+
+    @Test
+    void formatMatchesBigInteger() {
+        Random random = new Random(1);
+        for (int radix = 2; radix <= 36; radix++) {
+            for (int bits : BITS) {
+                BigInteger value = new BigInteger(bits, random);
+                assertEquals(value.toString(radix).toUpperCase(), RadixEngine.format(value, radix),
+                        "radix " + radix + ", " + bits + " bits");
+            }
+        }
+    }
+
+    @Test
+    void parseMatchesBigInteger() {
+        Random random = new Random(2);
+        for (int radix = 2; radix <= 36; radix++) {
+            for (int bits : BITS) {
+                BigInteger value = new BigInteger(bits, random);
+                DigitCodec.Digits digits = DigitCodec.decode(value.toString(radix), radix);
+                assertEquals(value, RadixEngine.parse(digits.values, 0, digits.values.length, radix),
+                        "radix " + radix + ", " + bits + " bits");
+            }
+        }
+    }
+
+    @Test
+    void roundTripsBeyondBase36() {
+        Random random = new Random(3);
+        for (int radix = 37; radix <= 64; radix++) {
+            for (int bits : BITS) {
+                BigInteger value = new BigInteger(bits, random);
+                DigitCodec.Digits digits = DigitCodec.decode(RadixEngine.format(value, radix), radix);
+                assertEquals(value, RadixEngine.parse(digits.values, 0, digits.values.length, radix));
+            }
+        }
+    }
+
+    @Test
+    void convertsPastTheParallelThreshold() {
+        Random random = new Random(9);
+        for (int radix : new int[]{2, 10, 16, 36}) {
+            BigInteger value = new BigInteger(200_000, random); // 38,000 digits in Base 36, and more below
+            String digits = value.toString(radix).toUpperCase();
+            assertEquals(digits, RadixEngine.format(value, radix));
+            byte[] values = DigitCodec.decode(digits, radix).values;
+            assertEquals(value, RadixEngine.parse(values, 0, values.length, radix));
+        }
+    }
+
+    @Test
+    void convertsWhileTheParallelismChanges() throws InterruptedException {
+        int parallelism = RadixEngine.getParallelism();
+        BigInteger value = new BigInteger(300_000, new Random(11));
+        String digits = value.toString(16).toUpperCase();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread resizer = new Thread(() -> {
+            for (int i = 0; !done.get(); i++) {
+                RadixEngine.setParallelism(2 + i % 3);
+                LockSupport.parkNanos(100_000);
+            }
+        });
+        resizer.start();
+        try {
+            for (int i = 0; i < 30; i++) assertEquals(digits, RadixEngine.format(value, 16));
+        } finally {
+            done.set(true);
+            resizer.join();
+            RadixEngine.setParallelism(parallelism);
+        }
+    }
+
+    @Test
+    void formatLongMatchesLongToString() {
+        Random random = new Random(4);
+        long[] values = {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, random.nextLong(), random.nextInt()};
+        for (int radix = 2; radix <= 36; radix++)
+            for (long value : values)
+                assertEquals(Long.toString(value, radix).toUpperCase(), RadixEngine.format(value, radix));
+    }
+
+    @Test
+    void zeroIsASingleDigit() {
+        assertEquals("0", RadixEngine.format(BigInteger.ZERO, 16));
+        assertEquals(BigInteger.ZERO, RadixEngine.parse(new byte[0], 0, 0, 10));
+    }
+}
@@ -0,0 +1,122 @@
+package converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**{@link RadixOutputStream} and {@link RadixInputStream}, which only make sense together.*/
+class RadixStreamTest {
+    private static final int[] RADICES = {2, 4, 8, 16, 32, 64};
+
+    private static String encode(byte[] data, int radix) throws IOException {
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        try (RadixOutputStream out = new RadixOutputStream(text, radix)) {
+            // unevenly sized writes, single bytes included
+            for (int i = 0; i < data.length; ) {
+                int length = Math.min(data.length - i, i % 3 == 0 ? 1 : 1 + i % 5_000);
+                if (length == 1) out.write(data[i]);
+                else out.write(data, i, length);
+                i += length;
+            }
+        }
+        return text.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] decode(String text, int radix) throws IOException {
+        try (InputStream in = new RadixInputStream(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1)),
+                radix)) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void roundTripsEveryLength() throws IOException {
+        Random random = new Random(15);
+        int[] lengths = {0, 1, 2, 3, 4, 5, 7, 11, 63, RadixOutputStream.BLOCK_SIZE - 1, RadixOutputStream.BLOCK_SIZE + 1,
+                3 * RadixInputStream.BLOCK_SIZE + 5};
+        for (int radix : RADICES) {
+            int bits = Integer.numberOfTrailingZeros(radix);
+            for (int length : lengths) {
+                byte[] data = new byte[length];
+                random.nextBytes(data);
+                String text = encode(data, radix);
+                // the last symbol is padded whenever the bits do not split evenly
+                assertEquals((length * Byte.SIZE + bits - 1) / bits, text.length(), radix + " / " + length);
+                assertArrayEquals(data, decode(text, radix), radix + " / " + length);
+            }
+        }
+    }
+
+    @Test
+    void encodesMostSignificantBitsFirst() throws IOException {
+        byte[] data = {(byte) 0xCA, (byte) 0xFE, 0x01};
+        assertEquals("CAFE01", encode(data, 16));
+        assertEquals("110010101111111000000001", encode(data, 2));
+        assertEquals("62577001", encode(data, 8)); // 24 bits, no padding
+        assertEquals("624", encode(new byte[]{(byte) 0xCA}, 8)); // 8 bits, padded with a zero bit
+    }
+
+    @Test
+    void skipsWhitespaceOfWrappedText() throws IOException {
+        Random random = new Random(16);
+        byte[] data = new byte[5_000];
+        random.nextBytes(data);
+        for (int radix : RADICES) {
+            String text = encode(data, radix);
+            StringBuilder wrapped = new StringBuilder(" \t");
+            for (int i = 0; i < text.length(); i += 76) {
+                wrapped.append(text, i, Math.min(text.length(), i + 76)).append(i % 3 == 0 ? "\r\n" : "\n");
+            }
+            wrapped.append("  \n");
+            assertArrayEquals(data, decode(wrapped.toString(), radix), "radix " + radix);
+        }
+    }
+
+    @Test
+    void lettersAreCaseInsensitiveUpToRadix32() throws IOException {
+        Random random = new Random(17);
+        byte[] data = new byte[1_000];
+        random.nextBytes(data);
+        for (int radix : new int[]{16, 32}) {
+            String text = encode(data, radix);
+            assertNotEquals(text, text.toLowerCase());
+            assertArrayEquals(data, decode(text.toLowerCase(), radix), "radix " + radix);
+        }
+        String text = encode(data, 64); // both cases are distinct digits here
+        assertFalse(java.util.Arrays.equals(data, decode(text.toLowerCase(), 64)));
+    }
+
+    @Test
+    void rejectsSymbolsOutOfTheRadix() {
+        String[][] cases = {{"0102", "2"}, {"0124", "4"}, {"0178", "8"}, {"CAFG", "16"}, {"ABCW", "32"}, {"AB!C", "64"}};
+        for (String[] bad : cases) {
+            int radix = Integer.parseInt(bad[1]);
+            IOException exception = assertThrows(IOException.class, () -> decode(bad[0], radix));
+            assertTrue(exception.getMessage().contains("radix " + radix), exception.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsRadicesThatAreNoPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new RadixOutputStream(new ByteArrayOutputStream(), 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RadixInputStream(new ByteArrayInputStream(new byte[0]), 128));
+    }
+
+    @Test
+    void nothingIsWrittenOnceFinished() throws IOException {
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        RadixOutputStream out = new RadixOutputStream(text, 32);
+        out.write(0xFF);
+        out.finish();
+        assertEquals("VS", text.toString(StandardCharsets.ISO_8859_1)); // 11111, then 111 padded to 11100
+        assertThrows(IOException.class, () -> out.write(1));
+    }
+}